@@ -0,0 +1,57 @@
+package com.inkcloud.review_service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.inkcloud.review_service.domain.Review;
+import com.inkcloud.review_service.dto.ReviewDto;
+
+// 벤치마크 공통 데이터 - 고정 시드로 실행마다 같은 리뷰 목록을 만든다
+public final class BenchmarkData {
+
+    private static final String[] PRODUCT_NAMES = { "채식주의자", "소년이 온다", "작별하지 않는다", "흰", "희랍어 시간" };
+    private static final String COMMENT = "문장이 아름답고 여운이 오래 남는 책입니다. 다시 읽고 싶어요. ";
+
+    private BenchmarkData() {
+    }
+
+    public static List<ReviewDto> reviewDtos(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<ReviewDto> reviews = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime createdAt = base.plusMinutes(random.nextInt(500_000));
+            reviews.add(new ReviewDto(
+                    (long) i << 8,
+                    "user" + random.nextInt(100_000) + "@inkcloud.com",
+                    1000L + random.nextInt(50),
+                    PRODUCT_NAMES[random.nextInt(PRODUCT_NAMES.length)],
+                    1 + random.nextInt(5),
+                    COMMENT.repeat(1 + random.nextInt(4)),
+                    random.nextInt(300),
+                    createdAt,
+                    createdAt));
+        }
+        return reviews;
+    }
+
+    public static List<Review> reviews(int size) {
+        List<Review> reviews = new ArrayList<>(size);
+        for (ReviewDto dto : reviewDtos(size)) {
+            reviews.add(Review.builder()
+                    .id(dto.getId())
+                    .email(dto.getEmail())
+                    .productId(dto.getProductId())
+                    .productName(dto.getProductName())
+                    .rating(dto.getRating())
+                    .comment(dto.getComment())
+                    .likeCount(dto.getLikeCount())
+                    .createdAt(dto.getCreatedAt())
+                    .updatedAt(dto.getUpdatedAt())
+                    .build());
+        }
+        return reviews;
+    }
+}
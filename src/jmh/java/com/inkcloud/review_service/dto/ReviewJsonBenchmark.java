@@ -0,0 +1,69 @@
+package com.inkcloud.review_service.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inkcloud.review_service.BenchmarkData;
+
+// 응답/이벤트 직렬화 - 스프링 부트 기본 ObjectMapper 와 같은 구성(JavaTimeModule, ISO 날짜)
+@State(Scope.Benchmark)
+public class ReviewJsonBenchmark {
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private Page<ReviewDto> reviewPage;
+    private List<ReviewDto> productReviews;
+    private List<ReviewEventDto> events;
+
+    @Setup
+    public void setUp() {
+        List<ReviewDto> reviews = BenchmarkData.reviewDtos(pageSize);
+        reviewPage = new PageImpl<>(reviews, PageRequest.of(0, pageSize), 10_000);
+        productReviews = reviews;
+
+        String[] types = { "created", "updated", "deleted" };
+        SplittableRandom random = new SplittableRandom(3);
+        events = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            String type = types[random.nextInt(types.length)];
+            events.add(new ReviewEventDto(type, 1000L + random.nextInt(50), 1 + random.nextInt(5),
+                    "created".equals(type) ? null : 1 + random.nextInt(5)));
+        }
+    }
+
+    // 관리자 검색 응답 (Page)
+    @Benchmark
+    public byte[] reviewPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(reviewPage);
+    }
+
+    // 상품 리뷰 목록 응답 (List)
+    @Benchmark
+    public byte[] productReviewList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(productReviews);
+    }
+
+    // 아웃박스 적재 - 이벤트마다 페이로드를 따로 직렬화
+    @Benchmark
+    public void ratingEventBatch(Blackhole blackhole) throws JsonProcessingException {
+        for (ReviewEventDto event : events) {
+            blackhole.consume(objectMapper.writeValueAsString(event));
+        }
+    }
+}
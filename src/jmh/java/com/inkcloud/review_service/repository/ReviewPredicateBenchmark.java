@@ -0,0 +1,51 @@
+package com.inkcloud.review_service.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.inkcloud.review_service.BenchmarkData;
+import com.inkcloud.review_service.domain.QReview;
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.querydsl.core.BooleanBuilder;
+
+// searchReviews 의 Querydsl 조건 생성 - 검색 색인 후보 조회(in 절)와 날짜/평점 조건 조립까지 (DB 호출 없음)
+@State(Scope.Benchmark)
+public class ReviewPredicateBenchmark {
+
+    @Param({ "10000" })
+    private int indexedReviews;
+
+    private ReviewRepositoryImpl repository;
+
+    @Setup
+    public void setUp() {
+        ReviewSearchIndex index = new ReviewSearchIndex();
+        for (ReviewDto review : BenchmarkData.reviewDtos(indexedReviews)) {
+            index.load(review.getId(), review.getProductName(), review.getComment(), review.getEmail());
+        }
+        index.markReady();
+        repository = new ReviewRepositoryImpl(null, index, null);
+    }
+
+    @Benchmark
+    public BooleanBuilder ratingAndDateRange() {
+        return repository.filterPredicate(QReview.review, null,
+                "2024-01-01T00:00:00", "2024-06-30T23:59:59Z", 3, 5);
+    }
+
+    // 색인 후보가 적은 키워드
+    @Benchmark
+    public BooleanBuilder selectiveKeyword() {
+        return repository.filterPredicate(QReview.review, "작별하지", null, null, null, null);
+    }
+
+    // 후보가 상한을 넘어 전체 LIKE 로 떨어지는 흔한 키워드
+    @Benchmark
+    public BooleanBuilder commonKeywordWithFilters() {
+        return repository.filterPredicate(QReview.review, "책입니다",
+                "2024-01-01T00:00:00", "2024-12-31T23:59:59", 4, null);
+    }
+}
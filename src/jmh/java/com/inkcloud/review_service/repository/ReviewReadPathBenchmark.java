@@ -0,0 +1,137 @@
+package com.inkcloud.review_service.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import com.inkcloud.review_service.BenchmarkData;
+import com.inkcloud.review_service.config.IdReservationPool;
+import com.inkcloud.review_service.domain.Review;
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.util.ReviewMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+// 상품 리뷰 목록 조회 - 엔티티 로딩 후 ReviewMapper 변환 vs DTO 생성자 프로젝션 (내장 H2, ./gradlew jmh -PjmhIncludes=ReviewReadPath)
+// 매 호출마다 새 EntityManager 로 조회해 영속성 컨텍스트(엔티티 스냅샷) 비용까지 포함한다
+@State(Scope.Benchmark)
+public class ReviewReadPathBenchmark {
+
+    private static final Long PRODUCT_ID = 1000L;
+
+    @Param({ "20", "200" })
+    private int size;
+
+    private final ReviewMapper mapper = new ReviewMapper();
+    private HikariDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup
+    public void setUp() throws Exception {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:review-bench-" + size + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(1);
+
+        // ShardedIdGenerator 는 Spring 빈 컨테이너로 생성된다 - 조회만 하므로 단일 샤드 allocator 면 충분
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("reviewIdAllocator",
+                new ReviewIdAllocator(new IdReservationPool(dataSource), new ModuloShardRouter(1)));
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.inkcloud.review_service.domain");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.cdi.extensions", "true",
+                "hibernate.resource.beans.container", new SpringBeanContainer(beanFactory)));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        seed();
+    }
+
+    // 고정 시드 리뷰를 한 상품에 JDBC 배치로 적재 (이메일은 상품+이메일 유니크 키에 걸리지 않게 순번으로)
+    private void seed() throws Exception {
+        String sql = "insert into review (id, email, product_id, product_name, rating, comment, like_count, created_at, updated_at) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<ReviewDto> reviews = BenchmarkData.reviewDtos(size);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < reviews.size(); i++) {
+                ReviewDto review = reviews.get(i);
+                statement.setLong(1, review.getId());
+                statement.setString(2, "reader" + i + "@inkcloud.com");
+                statement.setLong(3, PRODUCT_ID);
+                statement.setString(4, review.getProductName());
+                statement.setInt(5, review.getRating());
+                statement.setString(6, review.getComment());
+                statement.setInt(7, review.getLikeCount());
+                statement.setTimestamp(8, Timestamp.valueOf(review.getCreatedAt()));
+                statement.setTimestamp(9, Timestamp.valueOf(review.getUpdatedAt()));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        factoryBean.destroy();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        dataSource.close();
+    }
+
+    // 기존 경로 - Review 엔티티(+ 변경 감지 스냅샷) 로딩 후 DTO 로 복사
+    @Benchmark
+    public List<ReviewDto> entityThenMapper() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            List<Review> entities = entityManager
+                    .createQuery("select r from Review r where r.productId = :productId", Review.class)
+                    .setParameter("productId", PRODUCT_ID)
+                    .getResultList();
+            List<ReviewDto> result = new ArrayList<>(entities.size());
+            for (Review review : entities) {
+                result.add(mapper.entityToDto(review));
+            }
+            return result;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    // ReviewRepository.findDtosByProductId 와 같은 JPQL 생성자 프로젝션
+    @Benchmark
+    public List<ReviewDto> constructorProjection() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager
+                    .createQuery(ReviewRepository.REVIEW_DTO_SELECT + "where r.productId = :productId", ReviewDto.class)
+                    .setParameter("productId", PRODUCT_ID)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.inkcloud.review_service.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+// 인기 리뷰 하나에 좋아요가 몰리는 경합 - 모든 스레드가 같은 리뷰 ID 의 증감을 누적한다 (./gradlew jmh -PjmhIncludes=LikeCountBuffer)
+@State(Scope.Benchmark)
+public class LikeCountBufferBenchmark {
+
+    private static final Long HOT_REVIEW_ID = 1L;
+
+    private LikeCountBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        buffer = new LikeCountBuffer(null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void incrementUncontended() {
+        buffer.increment(HOT_REVIEW_ID);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void incrementHotReview() {
+        buffer.increment(HOT_REVIEW_ID);
+    }
+}
@@ -0,0 +1,53 @@
+package com.inkcloud.review_service.service;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.inkcloud.review_service.BenchmarkData;
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.util.LongHashSet;
+
+// getReviewsWithLikes 의 병합 단계 - 캐시된 상품 리뷰 목록에 좋아요 여부와 미반영 좋아요 수를 합친다
+// 상품당 리뷰 수는 대부분 수십 건, 인기 상품은 수천 건
+@State(Scope.Benchmark)
+public class LikeMergeBenchmark {
+
+    @Param({ "20", "200", "2000" })
+    private int reviewCount;
+
+    // 사용자가 좋아요한 비율 (%)
+    @Param({ "5" })
+    private int likedPercent;
+
+    private List<ReviewDto> reviews;
+    private LongHashSet likedReviewIds;
+    private LikeCountBuffer likeCountBuffer;
+
+    @Setup
+    public void setUp() {
+        reviews = BenchmarkData.reviewDtos(reviewCount);
+        likedReviewIds = new LongHashSet(reviewCount);
+        likeCountBuffer = new LikeCountBuffer(null, null, null, null, null, null);
+        SplittableRandom random = new SplittableRandom(7);
+        for (ReviewDto review : reviews) {
+            if (random.nextInt(100) < likedPercent) {
+                likedReviewIds.add(review.getId());
+            }
+            // 플러시 대기 중인 증감이 일부 리뷰에 있는 상태
+            if (random.nextInt(10) == 0) {
+                likeCountBuffer.increment(review.getId());
+            }
+        }
+    }
+
+    @Benchmark
+    public List<ReviewDto> mergeLikeState() {
+        return ReviewServiceImpl.mergeLikeState(reviews, likedReviewIds, likeCountBuffer);
+    }
+}
@@ -0,0 +1,50 @@
+package com.inkcloud.review_service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.inkcloud.review_service.BenchmarkData;
+import com.inkcloud.review_service.domain.Review;
+import com.inkcloud.review_service.dto.ReviewDto;
+
+// ReviewMapper 엔티티 <-> DTO 변환 비용
+@State(Scope.Benchmark)
+public class ReviewMapperBenchmark {
+
+    @Param({ "20", "200" })
+    private int size;
+
+    private final ReviewMapper mapper = new ReviewMapper();
+    private List<Review> entities;
+    private List<ReviewDto> dtos;
+
+    @Setup
+    public void setUp() {
+        entities = BenchmarkData.reviews(size);
+        dtos = BenchmarkData.reviewDtos(size);
+    }
+
+    @Benchmark
+    public List<ReviewDto> entityToDto() {
+        List<ReviewDto> result = new ArrayList<>(entities.size());
+        for (Review review : entities) {
+            result.add(mapper.entityToDto(review));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Review> dtoToEntity() {
+        List<Review> result = new ArrayList<>(dtos.size());
+        for (ReviewDto dto : dtos) {
+            result.add(mapper.dtoToEntity(dto));
+        }
+        return result;
+    }
+}
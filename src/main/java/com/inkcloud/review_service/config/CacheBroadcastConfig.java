@@ -0,0 +1,40 @@
+package com.inkcloud.review_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inkcloud.review_service.service.CacheInvalidationBroadcaster;
+import com.inkcloud.review_service.service.KafkaSendMetrics;
+import com.inkcloud.review_service.service.LikeStateCache;
+import com.inkcloud.review_service.service.ProductReviewCache;
+
+// 캐시 무효화 노드 간 전파 - 캐시마다 *.broadcast.enabled=true 일 때만 등록 (없으면 각 노드는 TTL 로만 맞춘다)
+@Configuration
+public class CacheBroadcastConfig {
+
+    // 상품 리뷰 목록 캐시 - 키는 상품 ID
+    @Bean
+    @ConditionalOnProperty(name = "review.product-cache.broadcast.enabled", havingValue = "true")
+    public CacheInvalidationBroadcaster<Long> productReviewCacheBroadcaster(
+            @Value("${review.product-cache.broadcast.topic:review-product-cache-invalidation}") String topic,
+            ProductReviewCache productReviewCache,
+            KafkaTemplate<String, Object> kafkaTemplate, ObjectMapper objectMapper, KafkaSendMetrics kafkaSendMetrics) {
+        return new CacheInvalidationBroadcaster<>("product-cache", topic, Long.class, productReviewCache::invalidateLocal,
+                kafkaTemplate, objectMapper, kafkaSendMetrics);
+    }
+
+    // 사용자별 좋아요 상태 캐시 - 키는 사용자 이메일
+    @Bean
+    @ConditionalOnProperty(name = "review.like-state-cache.broadcast.enabled", havingValue = "true")
+    public CacheInvalidationBroadcaster<String> likeStateCacheBroadcaster(
+            @Value("${review.like-state-cache.broadcast.topic:review-like-state-invalidation}") String topic,
+            LikeStateCache likeStateCache,
+            KafkaTemplate<String, Object> kafkaTemplate, ObjectMapper objectMapper, KafkaSendMetrics kafkaSendMetrics) {
+        return new CacheInvalidationBroadcaster<>("like-state", topic, String.class, likeStateCache::invalidateLocal,
+                kafkaTemplate, objectMapper, kafkaSendMetrics);
+    }
+}
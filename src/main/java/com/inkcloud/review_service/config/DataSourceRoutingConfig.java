@@ -0,0 +1,125 @@
+package com.inkcloud.review_service.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.inkcloud.review_service.repository.RecentWrites;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 읽기 복제본 라우팅 (review.datasource.replicas.enabled=true 일 때만)
+// primary 는 기존 spring.datasource 설정 그대로, 복제본은 URL 목록으로 받아 각각 Hikari 풀을 만든다.
+// 샤딩을 켜면 이 설정의 단일 DB 빈 대신 ShardingConfig 가 샤드마다 replicated 로 복제본 라우팅을 만든다 (review.sharding.replica-urls).
+@Configuration
+@ConditionalOnProperty(name = "review.datasource.replicas.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Value("${review.datasource.replicas.username:}")
+    private String replicaUsername;
+
+    @Value("${review.datasource.replicas.password:}")
+    private String replicaPassword;
+
+    @Value("${review.datasource.replicas.maximum-pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${review.datasource.replicas.connection-timeout-ms:3000}")
+    private long replicaConnectionTimeoutMillis;
+
+    @Value("${review.datasource.replicas.strategy:round-robin}")
+    private String strategy;
+
+    @Value("${review.datasource.replicas.health-check-interval-ms:5000}")
+    private long healthCheckIntervalMillis;
+
+    // primary 하나와 그 복제본들의 라우팅 DataSource (복제본 풀 이름은 name-0, name-1, ...)
+    public ReplicaRoutingDataSource replicated(String name, DataSource primary, List<String> replicaUrls,
+                                               RecentWrites recentWrites, DataSourceProperties properties,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            replicas.put(name + "-" + i, replicaPool(name + "-" + i, replicaUrls.get(i), properties, meterRegistry));
+        }
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas,
+                ReplicaRoutingDataSource.Strategy.valueOf(strategy.trim().replace('-', '_').toUpperCase(Locale.ROOT)),
+                recentWrites, DataSourceRoutingConfig::currentUserEmail);
+        routing.startHealthChecks(healthCheckIntervalMillis, 2);
+        return routing;
+    }
+
+    // 샤딩하지 않는 단일 DB - primary 와 review.datasource.replicas.urls
+    @Configuration
+    @ConditionalOnProperty(name = "review.sharding.enabled", havingValue = "false", matchIfMissing = true)
+    static class SingleDatabaseConfig {
+
+        @Value("${review.datasource.replicas.urls}")
+        private String replicaUrls; // 콤마로 구분
+
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+            return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        }
+
+        @Bean
+        public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceRoutingConfig routingConfig, HikariDataSource primaryDataSource,
+                                                                 RecentWrites recentWrites, DataSourceProperties properties,
+                                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+            return routingConfig.replicated("replica", primaryDataSource, ShardingConfig.shardUrls(replicaUrls),
+                    recentWrites, properties, meterRegistry);
+        }
+
+        // 트랜잭션의 readOnly 여부가 정해진 뒤 실제 커넥션을 고르도록 지연 프록시로 감싼다
+        @Bean
+        @Primary
+        public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+            return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+        }
+    }
+
+    private HikariDataSource replicaPool(String name, String url, DataSourceProperties properties,
+                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("review-" + name);
+        config.setJdbcUrl(url);
+        config.setDriverClassName(properties.determineDriverClassName());
+        config.setUsername(replicaUsername.isBlank() ? properties.determineUsername() : replicaUsername);
+        config.setPassword(replicaPassword.isBlank() ? properties.determinePassword() : replicaPassword);
+        config.setMaximumPoolSize(replicaPoolSize);
+        config.setConnectionTimeout(replicaConnectionTimeoutMillis);
+        config.setReadOnly(true);
+        config.setInitializationFailTimeout(-1); // 복제본이 내려가 있어도 기동은 계속 (상태 확인에서 제외)
+        // 빈이 아닌 풀이라 자동 등록되지 않으므로 직접 연결 (hikaricp.connections.acquire 등 대기 시간 지표)
+        meterRegistry.ifAvailable(registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return new HikariDataSource(config);
+    }
+
+    // 읽기 고정(read-your-writes) 기준 사용자 - JWT 의 email
+    private static String currentUserEmail() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+            return jwt.getClaimAsString("email");
+        }
+        return null;
+    }
+}
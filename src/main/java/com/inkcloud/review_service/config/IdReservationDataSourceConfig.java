@@ -0,0 +1,59 @@
+package com.inkcloud.review_service.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+// ID 블록 예약(ReviewIdAllocator) 전용 작은 풀 - 샤딩이면 샤드마다, 아니면 primary 하나
+// 예약은 INSERT 하던 트랜잭션이 커넥션을 잡은 채로 하므로, 같은 풀을 쓰면 풀이 가득 찼을 때 예약할 커넥션을 못 얻고
+// 블록 잠금을 기다리는 다른 스레드들도 커넥션을 쥔 채 멈춘다. 예약은 짧은 트랜잭션 하나라 커넥션 몇 개면 충분하다.
+@Configuration
+public class IdReservationDataSourceConfig {
+
+    @Value("${review.sharding.enabled:false}")
+    private boolean sharding;
+
+    @Value("${review.sharding.urls:}")
+    private String urls;
+
+    @Value("${review.id.reservation-pool-size:2}")
+    private int poolSize;
+
+    @Bean
+    public IdReservationPool idReservationPool(DataSourceProperties properties) {
+        if (!sharding) {
+            return new IdReservationPool(pool("review-id-reservation", properties.determineUrl(), properties));
+        }
+        List<String> shardUrls = ShardingConfig.shardUrls(urls);
+        Map<Object, Object> shards = new HashMap<>();
+        for (int shard = 0; shard < shardUrls.size(); shard++) {
+            shards.put(shard, pool("review-id-reservation-" + shard, shardUrls.get(shard), properties));
+        }
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(shards);
+        routing.setLenientFallback(false);
+        routing.afterPropertiesSet();
+        return new IdReservationPool(routing);
+    }
+
+    private HikariDataSource pool(String name, String url, DataSourceProperties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setDriverClassName(properties.determineDriverClassName());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(0);
+        config.setInitializationFailTimeout(0);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,33 @@
+package com.inkcloud.review_service.config;
+
+import java.io.Closeable;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+// ID 블록 예약 전용 DataSource - DataSource 빈으로 등록하면 기본 DataSource 자동 구성이 빠지므로 감싸서 등록한다
+@Slf4j
+public class IdReservationPool implements Closeable {
+
+    private final DataSource dataSource;
+
+    public IdReservationPool(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public void close() {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("ID 예약 풀 종료 실패", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.inkcloud.review_service.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+// MySQL 드라이버 배치 재작성 - rewriteBatchedStatements=true 이면 JDBC 배치 INSERT 를 여러 행 VALUES 한 문장으로 보낸다
+// (없으면 hibernate.jdbc.batch_size 로 묶어도 행마다 DB 왕복). 모르는 속성을 거부하는 드라이버(H2 등)가 있어 MySQL URL 에만 적용.
+@Configuration
+public class JdbcBatchConfig {
+
+    static final String REWRITE_BATCHED_STATEMENTS = "rewriteBatchedStatements";
+
+    // spring.datasource 로 만든 풀 (풀은 첫 커넥션 요청 때 시작하므로 그 전에 속성을 넣는다)
+    @Bean
+    static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    rewriteBatchedStatements(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 직접 만드는 쓰기 풀(샤드)은 생성 전에 호출
+    static void rewriteBatchedStatements(HikariConfig config) {
+        String url = config.getJdbcUrl();
+        if (url != null && url.startsWith("jdbc:mysql:") && !url.contains(REWRITE_BATCHED_STATEMENTS)) {
+            config.addDataSourceProperty(REWRITE_BATCHED_STATEMENTS, "true");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.inkcloud.review_service.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+// 기동 시 KafkaAdmin 이 없으면 만드는 토픽
+@Configuration
+public class KafkaTopicConfig {
+
+    // 평점 스냅숏 - productId 키의 최신 값만 남으면 되므로 압축(compact) 토픽
+    @Bean
+    public NewTopic ratingSnapshotTopic(@Value("${review.rating-snapshot.topic:review-rating-snapshot}") String topic,
+                                        @Value("${review.rating-snapshot.partitions:3}") int partitions,
+                                        @Value("${review.rating-snapshot.replicas:1}") short replicas) {
+        return TopicBuilder.name(topic)
+                .partitions(partitions)
+                .replicas(replicas)
+                .compact()
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.inkcloud.review_service.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.inkcloud.review_service.util.SqlStatementCounter;
+import com.inkcloud.review_service.util.SqlTimingListener;
+
+// 지표 수집 설정 - 프로메테우스 노출/백분위 히스토그램 대상은 application.yaml 의 management 항목
+@Configuration
+public class MetricsConfig {
+
+    // 요청당 SQL 문장 수/JDBC 시간 집계 (SqlStatementMetricsFilter 와 함께 동작)
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingListener.class.getName());
+        };
+    }
+}
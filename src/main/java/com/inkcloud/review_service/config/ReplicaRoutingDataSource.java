@@ -0,0 +1,188 @@
+package com.inkcloud.review_service.config;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.inkcloud.review_service.repository.RecentWrites;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 읽기 전용 트랜잭션은 복제본, 그 외는 primary 로 보내는 DataSource
+// LazyConnectionDataSourceProxy 뒤에 두어 트랜잭션의 readOnly 여부가 정해진 뒤(첫 쿼리 시점)에 커넥션을 고른다.
+// 복제본은 라운드로빈 또는 최근 응답 지연이 가장 낮은 것을 고르고, 상태 확인/커넥션 획득에 실패한 복제본은
+// 다음 상태 확인에서 회복될 때까지 제외한다. 사용할 복제본이 없으면 primary 로 보낸다.
+// 사용자가 쓰기 트랜잭션을 연 뒤 일정 시간 동안은 그 사용자의 읽기도 primary 로 보내 복제 지연으로 자기 글이 안 보이지 않게 한다.
+// 공유 캐시를 채우는 읽기는 RecentWrites.readingFor 로 키(상품)를 붙여, 그 키가 막 무효화된 경우에만 primary 로 보낸다.
+// 샤딩과 함께 쓰면 샤드마다 하나씩 만들어 ShardRoutingDataSource 의 대상으로 둔다 (최근 쓰기 기록은 함께 씀).
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    public enum Strategy {
+        ROUND_ROBIN, LATENCY
+    }
+
+    private static final double LATENCY_SMOOTHING = 0.3; // 지연 시간 지수 이동 평균 가중치
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Strategy strategy;
+    private final RecentWrites recentWrites;
+    private final Supplier<String> currentUser;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Strategy strategy,
+                                    RecentWrites recentWrites, Supplier<String> currentUser) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.strategy = strategy;
+        this.recentWrites = recentWrites;
+        this.currentUser = currentUser;
+    }
+
+    // 주기적인 복제본 상태 확인 시작
+    public void startHealthChecks(long intervalMillis, int timeoutSeconds) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(() -> checkHealth(timeoutSeconds), 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = route();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            replica.markDown(e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    // 복제본마다 커넥션 유효성 확인 + 응답 시간 기록
+    public void checkHealth(int timeoutSeconds) {
+        for (Replica replica : replicas) {
+            long start = System.nanoTime();
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(timeoutSeconds)) {
+                    throw new SQLException("replica connection is not valid");
+                }
+                replica.markUp((System.nanoTime() - start) / 1_000_000.0);
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+    }
+
+    DataSource getPrimary() {
+        return primary;
+    }
+
+    private Replica route() {
+        String user = currentUser.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                recentWrites.mark(user);
+            }
+            return null;
+        }
+        if (user != null && recentWrites.isRecent(user)) {
+            return null;
+        }
+        String reading = RecentWrites.readingKey();
+        if (reading != null && recentWrites.isRecent(reading)) {
+            return null;
+        }
+        return selectReplica();
+    }
+
+    private Replica selectReplica() {
+        int size = replicas.size();
+        if (strategy == Strategy.LATENCY) {
+            Replica best = null;
+            for (Replica replica : replicas) {
+                if (replica.healthy && (best == null || replica.latencyMillis < best.latencyMillis)) {
+                    best = replica;
+                }
+            }
+            return best;
+        }
+        int start = next.getAndIncrement();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, size));
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("복제본 풀 종료 실패: {}", replica.name, e);
+                }
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile double latencyMillis;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void markUp(double sampleMillis) {
+            latencyMillis = latencyMillis == 0 ? sampleMillis
+                    : LATENCY_SMOOTHING * sampleMillis + (1 - LATENCY_SMOOTHING) * latencyMillis;
+            if (!healthy) {
+                log.info("복제본 복구: {}", name);
+                healthy = true;
+            }
+        }
+
+        private void markDown(SQLException e) {
+            if (healthy) {
+                log.warn("복제본 제외, primary 로 전환: {} ({})", name, e.getMessage());
+                healthy = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.inkcloud.review_service.config;
+
+import java.io.Closeable;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.inkcloud.review_service.repository.ShardContext;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 현재 스레드의 ShardContext 로 샤드 DataSource 선택
+// LazyConnectionDataSourceProxy 뒤에 두어, 트랜잭션 시작 후 서비스가 샤드를 지정한 다음(첫 쿼리 시점)에 커넥션을 고른다.
+// 대상은 샤드 풀이거나, 복제본을 함께 쓰면 샤드 풀을 primary 로 둔 ReplicaRoutingDataSource.
+@Slf4j
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    @Override
+    public void close() {
+        for (DataSource shard : getResolvedDataSources().values()) {
+            close(shard);
+            // 샤드마다 복제본 라우팅을 둔 경우 샤드 풀은 그 primary
+            if (shard instanceof ReplicaRoutingDataSource replicated) {
+                close(replicated.getPrimary());
+            }
+        }
+    }
+
+    private static void close(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("샤드 풀 종료 실패", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.inkcloud.review_service.config;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.inkcloud.review_service.repository.ModuloShardRouter;
+import com.inkcloud.review_service.repository.RecentWrites;
+import com.inkcloud.review_service.repository.ShardRouter;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 리뷰 저장소 샤딩 - 기본은 샤드 1개(기존 단일 DB), review.sharding.enabled=true 이면 URL 목록 순서대로 0..N-1 번 샤드
+@Configuration
+public class ShardingConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ShardRouter shardRouter(@Value("${review.sharding.enabled:false}") boolean enabled,
+                                   @Value("${review.sharding.urls:}") String urls) {
+        return new ModuloShardRouter(enabled ? shardUrls(urls).size() : 1);
+    }
+
+    static List<String> shardUrls(String urls) {
+        return Arrays.stream(urls.split(",")).map(String::trim).filter(url -> !url.isEmpty()).toList();
+    }
+
+    // 샤드별 Hikari 풀 + 라우팅 (샤드 0 은 기존 primary 여야 한다 - IDENTITY 로 만든 기존 행이 모두 0번 샤드)
+    // 읽기 복제본 라우팅도 켜져 있으면 샤드마다 자기 복제본 묶음으로 읽기를 보낸다 (샤드 라우팅 -> 샤드의 복제본 라우팅)
+    @Configuration
+    @ConditionalOnProperty(name = "review.sharding.enabled", havingValue = "true")
+    static class ShardDataSourceConfig {
+
+        @Value("${review.sharding.urls}")
+        private String urls;
+
+        @Value("${review.sharding.maximum-pool-size:10}")
+        private int poolSize;
+
+        @Value("${review.sharding.replica-urls:}")
+        private String replicaUrls; // 샤드 순서대로 ';' 로 구분, 한 샤드의 복제본은 ',' 로 구분 (복제본이 없는 샤드는 빈 칸)
+
+        @Bean
+        public ShardRoutingDataSource shardRoutingDataSource(DataSourceProperties properties,
+                                                             ObjectProvider<MeterRegistry> meterRegistry,
+                                                             ObjectProvider<DataSourceRoutingConfig> replicaRouting,
+                                                             RecentWrites recentWrites) {
+            List<String> shardUrls = shardUrls(urls);
+            String[] shardReplicaUrls = replicaUrls.split(";", -1);
+            DataSourceRoutingConfig routingConfig = replicaRouting.getIfAvailable();
+            Map<Object, Object> shards = new HashMap<>();
+            for (int shard = 0; shard < shardUrls.size(); shard++) {
+                DataSource pool = shardPool(shard, shardUrls.get(shard), properties, meterRegistry);
+                if (routingConfig != null) {
+                    List<String> replicas = shard < shardReplicaUrls.length ? shardUrls(shardReplicaUrls[shard]) : List.of();
+                    pool = routingConfig.replicated("shard-" + shard + "-replica", pool, replicas, recentWrites, properties, meterRegistry);
+                }
+                shards.put(shard, pool);
+            }
+            ShardRoutingDataSource routing = new ShardRoutingDataSource();
+            routing.setTargetDataSources(shards);
+            routing.setDefaultTargetDataSource(shards.get(0));
+            routing.setLenientFallback(false);
+            return routing;
+        }
+
+        @Bean
+        @Primary
+        public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+            return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+        }
+
+        private HikariDataSource shardPool(int shard, String url, DataSourceProperties properties,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("review-shard-" + shard);
+            config.setJdbcUrl(url);
+            config.setDriverClassName(properties.determineDriverClassName());
+            config.setUsername(properties.determineUsername());
+            config.setPassword(properties.determinePassword());
+            config.setMaximumPoolSize(poolSize);
+            config.setInitializationFailTimeout(0);
+            JdbcBatchConfig.rewriteBatchedStatements(config);
+            // 빈이 아닌 풀이라 자동 등록되지 않으므로 직접 연결 (hikaricp.connections.acquire 등 대기 시간 지표)
+            meterRegistry.ifAvailable(registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            return new HikariDataSource(config);
+        }
+    }
+}
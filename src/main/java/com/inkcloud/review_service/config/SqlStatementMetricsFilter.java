@@ -0,0 +1,119 @@
+package com.inkcloud.review_service.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.inkcloud.review_service.util.SqlStatementCounter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+// 요청당 Hibernate SQL 문장 수/JDBC 시간 (review.sql.statements, review.sql.jdbc-time) 과 문장 예산 확인
+// - 예산: review.sql-budget.endpoints."[GET /api/v1/reviews/products/{productId}]"=2 처럼 엔드포인트별, 없으면 기본값
+// - N+1 의심: 같은 SQL 이 한 요청에서 repeat-threshold 번 이상 반복
+// 넘으면 경고 로그와 review.sql.budget.exceeded 카운터 (reason=statements|repeated)
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Integer> endpointBudgets;
+
+    @Value("${review.sql-budget.enabled:true}")
+    private boolean budgetEnabled;
+
+    @Value("${review.sql-budget.default-max-statements:20}")
+    private int defaultMaxStatements;
+
+    @Value("${review.sql-budget.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    public SqlStatementMetricsFilter(MeterRegistry meterRegistry, Environment environment) {
+        this.meterRegistry = meterRegistry;
+        this.endpointBudgets = Binder.get(environment)
+                .bind("review.sql-budget.endpoints", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.Stats stats = SqlStatementCounter.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String method = request.getMethod();
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            record(method, uri, stats);
+            if (budgetEnabled) {
+                checkBudget(method, uri, stats);
+            }
+        }
+    }
+
+    private void record(String method, String uri, SqlStatementCounter.Stats stats) {
+        DistributionSummary.builder("review.sql.statements")
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.statements());
+        Timer.builder("review.sql.jdbc-time")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(stats.jdbcNanos()));
+    }
+
+    private void checkBudget(String method, String uri, SqlStatementCounter.Stats stats) {
+        String endpoint = method + " " + uri;
+        int budget = endpointBudgets.getOrDefault(endpoint, defaultMaxStatements);
+        if (stats.statements() > budget) {
+            log.warn("SQL 문장 예산 초과: {} statements={} budget={} jdbcTime={}ms",
+                    endpoint, stats.statements(), budget, stats.jdbcNanos() / 1_000_000);
+            exceeded(method, uri, "statements");
+        }
+        if (stats.maxRepeats() >= repeatThreshold) {
+            log.warn("N+1 의심: {} 같은 SQL {}회 반복 - {}", endpoint, stats.maxRepeats(), stats.mostRepeatedSql());
+            exceeded(method, uri, "repeated");
+        }
+    }
+
+    private void exceeded(String method, String uri, String reason) {
+        Counter.builder("review.sql.budget.exceeded")
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // 지표 수집 요청 자체는 세지 않는다
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+}
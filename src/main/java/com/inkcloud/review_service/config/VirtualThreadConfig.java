@@ -0,0 +1,43 @@
+package com.inkcloud.review_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.inkcloud.review_service.util.VirtualThreads;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 가상 스레드 실행 모드 (review.virtual-threads.enabled=true)
+// - 요청 처리: Tomcat 워커 풀 대신 요청마다 가상 스레드
+// - 스케줄 작업: 아웃박스 릴레이(카프카 발행 후 ack 대기), 좋아요 수 반영 등을 가상 스레드 스케줄러에서 실행
+// 동시 요청 수는 더 이상 스레드 수로 막히지 않으므로 DB 동시성은 Hikari 풀 크기(maximum-pool-size)로 조정한다.
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "review.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Value("${review.virtual-threads.scheduler-pool-size:4}")
+    private int schedulerPoolSize;
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> {
+            protocolHandler.setExecutor(VirtualThreads.newPerTaskExecutor("tomcat-handler"));
+            log.info("Tomcat 요청 처리를 가상 스레드로 실행");
+        };
+    }
+
+    // @Scheduled 작업용 스케줄러 - 기본 스케줄러(스레드 1개)를 대체해 작업끼리 서로 기다리지 않게 한다
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(schedulerPoolSize);
+        scheduler.setThreadNamePrefix("review-scheduling-");
+        scheduler.setThreadFactory(VirtualThreads.factory("review-scheduling"));
+        return scheduler;
+    }
+}
@@ -0,0 +1,19 @@
+package com.inkcloud.review_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    // 비동기 응답(StreamingResponseBody 내보내기) 제한 시간 - 컨테이너 기본값(30초)으로는 대량 내보내기가 끊긴다
+    @Value("${review.export.timeout-ms:3600000}")
+    private long asyncTimeoutMillis;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeoutMillis);
+    }
+}
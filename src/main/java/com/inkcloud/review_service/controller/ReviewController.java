@@ -1,24 +1,39 @@
 package com.inkcloud.review_service.controller;
 
+import com.inkcloud.review_service.dto.ExportFormat;
+import com.inkcloud.review_service.dto.ReviewCursorPageDto;
 import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.dto.ReviewImportProgressDto;
 import com.inkcloud.review_service.dto.ReviewLikeDto;
+import com.inkcloud.review_service.dto.RatingSummaryDto;
 import com.inkcloud.review_service.dto.ReviewRequestDto;
+import com.inkcloud.review_service.service.ProductRatingSummaryService;
+import com.inkcloud.review_service.service.ReviewExportService;
+import com.inkcloud.review_service.service.ReviewImportService;
 import com.inkcloud.review_service.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Slf4j
 @RestController
@@ -27,6 +42,9 @@ import org.springframework.data.domain.Page;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ProductRatingSummaryService productRatingSummaryService;
+    private final ReviewExportService reviewExportService;
+    private final ReviewImportService reviewImportService;
 
     // 리뷰 작성 (JWT 토큰에서 email 추출)
     @PostMapping
@@ -48,16 +66,38 @@ public class ReviewController {
 
     // 책 ID로 리뷰 리스트, 평균 조회
     @GetMapping("/products/{productId}")
-    public ResponseEntity<List<ReviewDto>> getReviewsByProductId(@PathVariable Long productId) {
+    public ResponseEntity<List<ReviewDto>> getReviewsByProductId(@PathVariable Long productId, WebRequest request) {
 
+        // ETag 는 상품별 목록 버전 - 어느 노드가 응답해도 같은 값
+        // If-None-Match 가 같으면 목록을 읽거나 직렬화하지 않고 304 응답 (버전을 먼저 읽어야 새 목록에 옛 버전이 붙지 않는다)
+        String etag = reviewService.getReviewsEtag(productId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+        }
         List<ReviewDto> reviews = reviewService.getReviewsByProductId(productId);
         // double avgRating = reviewService.getAverageRatingByProductId(productId);
 
-        Map<String, Object> result = new HashMap<>();
-        result.put("reviews", reviews);
-        // result.put("averageRating", avgRating);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(reviews);
+    }
 
-        return ResponseEntity.ok(reviews);
+    // 책 ID로 리뷰 커서 페이지 조회 (sort: newest, rating, likeCount / cursor: 이전 응답의 nextCursor)
+    @GetMapping("/products/{productId}/cursor")
+    public ResponseEntity<?> getReviewsByProductIdWithCursor(@PathVariable Long productId,
+                                                             @RequestParam(required = false) String sort,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        try {
+            ReviewCursorPageDto page = reviewService.getReviewsByProductIdWithCursor(productId, sort, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 책 ID로 평점 집계(리뷰 수, 평균, 별점 분포) 조회
+    @GetMapping("/products/{productId}/summary")
+    public ResponseEntity<RatingSummaryDto> getRatingSummary(@PathVariable Long productId) {
+        return ResponseEntity.ok(productRatingSummaryService.getSummary(productId));
     }
 
     // 책 id, email로 리뷰 리스트 조회(좋아요 여부 포함)
@@ -144,6 +184,51 @@ public class ReviewController {
         return ResponseEntity.ok(reviews);
     }
 
+    // 전체 리뷰 검색-관리자 (count 없이 hasNext 만 내려주는 무한 스크롤용)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @PostMapping("/admin/slice")
+    public ResponseEntity<Slice<ReviewDto>> searchAllReviewsSlice(@RequestBody ReviewRequestDto req) {
+        Slice<ReviewDto> reviews = reviewService.getAllReviewsWithFilterSlice(
+            req.getPage(), req.getSize(), req.getKeyword(), req.getStartDate(), req.getEndDate(), req.getMinRating(), req.getMaxRating()
+        );
+        return ResponseEntity.ok(reviews);
+    }
+
+    // 전체 리뷰 내보내기-관리자 (검색과 같은 조건, page/size 는 무시) format: ndjson(기본), csv
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @PostMapping("/admin/export")
+    public ResponseEntity<StreamingResponseBody> exportAllReviews(@RequestBody ReviewRequestDto req,
+                                                                  @RequestParam(required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = out -> reviewExportService.exportReviews(req, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reviews." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // 리뷰 일괄 가져오기-관리자 (NDJSON 본문, 한 줄에 리뷰 하나 + likedBy) - 청크마다 커밋, 진행 상황은 jobId 로 조회
+    // 이미 있는 (상품, 작성자) 리뷰는 건너뛰므로 실패하면 같은 파일로 다시 실행
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @PostMapping("/admin/import")
+    public ResponseEntity<?> importReviews(@RequestParam(required = false) String jobId, InputStream body) throws IOException {
+        try {
+            ReviewImportProgressDto progress = reviewImportService.importReviews(jobId, body);
+            return "FAILED".equals(progress.getStatus())
+                    ? ResponseEntity.badRequest().body(progress)
+                    : ResponseEntity.ok(progress);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(409).body(e.getMessage());
+        }
+    }
+
+    // 리뷰 일괄 가져오기 진행 상황-관리자
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/admin/import/{jobId}")
+    public ResponseEntity<ReviewImportProgressDto> getImportProgress(@PathVariable String jobId) {
+        ReviewImportProgressDto progress = reviewImportService.getProgress(jobId);
+        return progress == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(progress);
+    }
 
     // 리뷰 좋아요
     @PostMapping("/like")
@@ -161,14 +246,9 @@ public class ReviewController {
                                      @AuthenticationPrincipal Jwt jwt) {
         String email = jwt.getClaimAsString("email");
         try {
+            // 누른 적 없는 좋아요 취소도 멱등하게 200
             reviewService.cancelLikesReview(reviewId, email);
             return ResponseEntity.ok(reviewId);
-        } catch (IllegalStateException e) {
-            // 이미 좋아요를 누르지 않은 경우 등
-            Map<String, Object> result = new HashMap<>();
-            result.put("message", e.getMessage());
-            result.put("reviewId", reviewId);
-            return ResponseEntity.status(409).body(result); // 409 Conflict
         } catch (Exception e) {
             Map<String, Object> result = new HashMap<>();
             result.put("message", e.getMessage());
@@ -1,19 +1,24 @@
 package com.inkcloud.review_service.controller;
 
 import com.inkcloud.review_service.domain.ReportType;
+import com.inkcloud.review_service.dto.ExportFormat;
 import com.inkcloud.review_service.dto.ReviewReportDto;
+import com.inkcloud.review_service.service.ReviewExportService;
 import com.inkcloud.review_service.service.ReviewReportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,6 +29,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReviewReportController {
     private final ReviewReportService reviewReportService;
+    private final ReviewExportService reviewExportService;
 
     // 리뷰 신고
     @PostMapping("/report")
@@ -72,6 +78,36 @@ public class ReviewReportController {
         return ResponseEntity.ok(result);
     }
 
+    // 관리자: 신고된 리뷰 검색 (count 없이 hasNext 만 내려주는 무한 스크롤용)
+    @GetMapping("/reports/slice")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<Slice<ReviewReportDto>> searchReportsSlice(
+            @RequestParam(required = false) ReportType type,
+            @RequestParam(required = false) LocalDateTime from,
+            @RequestParam(required = false) LocalDateTime to,
+            @RequestParam(required = false) String keyword,
+            Pageable pageable
+    ) {
+        return ResponseEntity.ok(reviewReportService.searchReportsSlice(type, from, to, keyword, pageable));
+    }
+
+    // 관리자: 신고 검색 결과 전체 내보내기 (페이지 없이 스트리밍) format: ndjson(기본), csv
+    @GetMapping("/reports/export")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportReports(
+            @RequestParam(required = false) ReportType type,
+            @RequestParam(required = false) LocalDateTime from,
+            @RequestParam(required = false) LocalDateTime to,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = out -> reviewExportService.exportReports(type, from, to, keyword, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"review-reports." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
 
     // 관리자: 신고(리포트) 여러 건 삭제
     @PreAuthorize("hasAuthority('ADMIN')")
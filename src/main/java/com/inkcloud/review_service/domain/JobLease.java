@@ -0,0 +1,34 @@
+package com.inkcloud.review_service.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 여러 노드 중 한 곳에서만 돌아야 하는 예약 작업의 임대 - 샤드마다 있으므로 작업 이름 하나당 샤드별 행 하나
+@Entity
+@Table(name = "job_lease")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobLease {
+
+    @Id
+    @Column(length = 100)
+    private String name; // 작업 이름
+
+    @Column(length = 100, nullable = false)
+    private String owner; // 임대한 노드
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil; // 이 시각이 지나면 다른 노드가 가져갈 수 있다
+}
@@ -0,0 +1,63 @@
+package com.inkcloud.review_service.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 트랜잭셔널 아웃박스 - 리뷰 변경과 같은 트랜잭션에 저장하고, 릴레이가 배치로 카프카에 발행한다
+@Entity
+@Table(name = "review_outbox", indexes = {
+    @Index(name = "idx_review_outbox_sent", columnList = "sent_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 100, nullable = false)
+    private String topic; // 발행 토픽
+
+    @Column(name = "message_key", length = 100)
+    private String messageKey; // 파티션 키 (productId)
+
+    @Column(name = "payload_type", length = 200, nullable = false)
+    private String payloadType; // 페이로드 클래스명 (__TypeId__ 헤더로 전달)
+
+    @Column(length = 4000, nullable = false)
+    private String payload; // JSON
+
+    @Column(nullable = false)
+    private int attempts; // 발행 시도 횟수
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt; // 발행 완료 시각 (null 이면 미발행)
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil; // 릴레이가 가져가 발행 중인 기한 (지나면 다른 릴레이가 다시 가져간다)
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,57 @@
+package com.inkcloud.review_service.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 상품별 평점 집계 (리뷰 작성/수정/삭제 트랜잭션에서 증분 갱신)
+@Entity
+@Table(name = "product_rating_summary")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductRatingSummary {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId; // 책 ID
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount; // 리뷰 수
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum; // 평점 합계
+
+    // 별점(1~5)별 리뷰 수
+    @Column(name = "star1", nullable = false)
+    private long star1;
+
+    @Column(name = "star2", nullable = false)
+    private long star2;
+
+    @Column(name = "star3", nullable = false)
+    private long star3;
+
+    @Column(name = "star4", nullable = false)
+    private long star4;
+
+    @Column(name = "star5", nullable = false)
+    private long star5;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public long[] histogram() {
+        return new long[] { star1, star2, star3, star4, star5 };
+    }
+}
@@ -0,0 +1,30 @@
+package com.inkcloud.review_service.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 상품별 리뷰 목록 버전 - 목록이 바뀌는 쓰기 트랜잭션(작성/수정/삭제/상품명 변경/가져오기/좋아요 수 반영)에서 1 씩 올린다
+// 상품 리뷰 목록 ETag 로 쓰므로 조건부 GET 은 이 행만 읽고 304 로 응답할 수 있다 (리뷰와 같은 샤드)
+@Entity
+@Table(name = "product_review_version")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductReviewVersion {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId; // 책 ID
+
+    @Column(nullable = false)
+    private long version;
+}
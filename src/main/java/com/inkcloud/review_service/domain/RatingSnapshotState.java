@@ -0,0 +1,34 @@
+package com.inkcloud.review_service.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 상품별 마지막으로 발행한 평점 스냅숏의 지문 - 다음 실행에서 집계가 바뀐 상품만 다시 발행하기 위한 기록
+@Entity
+@Table(name = "rating_snapshot_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RatingSnapshotState {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId; // 책 ID
+
+    @Column(nullable = false)
+    private long fingerprint; // (리뷰 수, 평점 합계, 별점 분포) 해시
+
+    @Column(name = "published_at", nullable = false)
+    private LocalDateTime publishedAt;
+}
@@ -9,12 +9,16 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,7 +26,16 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "review")
+@Table(name = "review", uniqueConstraints = {
+    // 한 사용자는 상품 하나에 리뷰 하나 - 작성시 먼저 조회하지 않고 INSERT 충돌로 중복을 확인하기 위한 키
+    @UniqueConstraint(name = "uk_review_product_email", columnNames = {"product_id", "email"})
+}, indexes = {
+    // 상품별 커서(keyset) 페이지네이션용 복합 인덱스 - 정렬 기준별
+    @Index(name = "idx_review_product_created", columnList = "product_id, created_at, id"),
+    @Index(name = "idx_review_product_rating", columnList = "product_id, rating, created_at, id"),
+    @Index(name = "idx_review_product_like", columnList = "product_id, like_count, created_at, id")
+})
+@DynamicUpdate // 변경 감지 UPDATE 도 바뀐 컬럼만
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,8 +44,9 @@ import lombok.Setter;
 public class Review {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @GeneratedValue(generator = "review_id")
+    @GenericGenerator(name = "review_id", strategy = ShardedIdGenerator.STRATEGY)
+    private Long id; // (샤드별 시퀀스 << 8) | 샤드
 
     @Column(length = 50, nullable = false)
     private String email; // 작성자 이메일
@@ -49,7 +63,8 @@ public class Review {
     @Column(length = 255)
     private String comment; // 리뷰 내용
 
-    @Column(name = "like_count", nullable = false)
+    // 좋아요 수는 LikeCountBuffer 가 원자적 증감 UPDATE 로만 갱신 (엔티티 변경 감지로 덮어쓰지 않도록 updatable = false)
+    @Column(name = "like_count", nullable = false, updatable = false)
     private int likeCount = 0;
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -64,9 +79,12 @@ public class Review {
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ReviewReport> reviewReports = new ArrayList<>();
 
+    // 일괄 가져오기는 원래 작성 시각을 유지하고, 그 외에는 저장 시각
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
     }
 
     @PreUpdate
@@ -0,0 +1,28 @@
+package com.inkcloud.review_service.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 샤드별 ID 시퀀스 (ReviewIdAllocator 가 JDBC 로 블록 단위 예약) - 테이블 생성용 매핑
+@Entity
+@Table(name = "review_id_sequence")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewIdSequence {
+
+    @Id
+    @Column(name = "seq_key", length = 50)
+    private String seqKey; // "{테이블}:{샤드}"
+
+    @Column(name = "next_val", nullable = false)
+    private long nextVal; // 다음에 예약할 시퀀스
+
+    @Column(name = "legacy_ceiling", nullable = false)
+    private long legacyCeiling; // 시퀀스 생성 전 IDENTITY 로 발급된 최대 ID
+}
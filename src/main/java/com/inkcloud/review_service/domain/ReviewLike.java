@@ -4,12 +4,14 @@ import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,7 +19,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "review_like")
+@Table(name = "review_like", uniqueConstraints = {
+    // 한 사용자는 리뷰 하나에 좋아요 한 번 - 좋아요/취소를 조건부 단일 INSERT/DELETE 로 처리하기 위한 키
+    @UniqueConstraint(name = "uk_review_like_review_email", columnNames = {"review_id", "email"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,7 +34,7 @@ public class ReviewLike {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY) // 기본 EAGER 는 목록 조회시 행마다 리뷰를 추가 조회 (N+1)
     @JoinColumn(name = "review_id", nullable = false)
     private Review review;
 
@@ -3,6 +3,8 @@ package com.inkcloud.review_service.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import org.hibernate.annotations.GenericGenerator;
+
 import java.time.LocalDateTime;
 
 @Entity
@@ -14,10 +16,11 @@ import java.time.LocalDateTime;
 @Builder
 public class ReviewReport {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @GeneratedValue(generator = "review_report_id")
+    @GenericGenerator(name = "review_report_id", strategy = ShardedIdGenerator.STRATEGY)
+    private Long id; // 대상 리뷰와 같은 샤드
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY) // 기본 EAGER 는 목록 조회시 행마다 리뷰를 추가 조회 (N+1)
     @JoinColumn(name = "review_id", nullable = false)
     private Review review;
 
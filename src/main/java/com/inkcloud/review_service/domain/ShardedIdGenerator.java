@@ -0,0 +1,31 @@
+package com.inkcloud.review_service.domain;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import com.inkcloud.review_service.repository.ReviewIdAllocator;
+
+// 리뷰/신고 ID 생성기 - 리뷰는 상품의 샤드, 신고는 대상 리뷰의 샤드로 ID 를 발급
+// Hibernate 가 Spring 빈 컨테이너로 생성해 allocator 를 생성자로 주입받는다 (hibernate.cdi.extensions=true 필요, 없으면 기동 실패)
+public class ShardedIdGenerator implements IdentifierGenerator {
+
+    public static final String STRATEGY = "com.inkcloud.review_service.domain.ShardedIdGenerator";
+
+    private final ReviewIdAllocator allocator;
+
+    public ShardedIdGenerator(ReviewIdAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (object instanceof Review review) {
+            return allocator.nextIdForProduct(ReviewIdAllocator.REVIEW, review.getProductId());
+        }
+        if (object instanceof ReviewReport report) {
+            int shard = allocator.shardOf(ReviewIdAllocator.REVIEW, report.getReview().getId());
+            return allocator.nextId(ReviewIdAllocator.REVIEW_REPORT, shard);
+        }
+        throw new IllegalArgumentException("샤드 ID 를 발급할 수 없는 엔티티입니다: " + object.getClass().getName());
+    }
+}
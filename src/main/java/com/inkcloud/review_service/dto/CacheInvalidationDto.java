@@ -0,0 +1,15 @@
+package com.inkcloud.review_service.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationDto<K> {
+    private String originNode;    // 발행한 노드 - 자기 메시지는 무시
+    private List<K> keys;         // 무효화할 캐시 키 (상품 ID, 사용자 이메일 등)
+}
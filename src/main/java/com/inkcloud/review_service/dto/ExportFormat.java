@@ -0,0 +1,38 @@
+package com.inkcloud.review_service.dto;
+
+import org.springframework.http.MediaType;
+
+// 관리자 내보내기 형식 (줄 단위 JSON, CSV)
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    // 요청 파라미터(ndjson, csv)를 형식으로 변환, 없으면 NDJSON
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        switch (value.trim().toLowerCase()) {
+            case "ndjson":
+            case "jsonl": return NDJSON;
+            case "csv": return CSV;
+            default: throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다. (format=" + value + ")");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.inkcloud.review_service.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 상품 서비스의 상품 수정 이벤트 - 리뷰에 복사해 둔 상품명 갱신에 쓰는 필드만 받는다
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductUpdateEventDto {
+    private Long productId;
+    private String name;             // 변경 후 상품명
+    private LocalDateTime updatedAt; // 같은 상품의 이벤트가 여러 개면 가장 늦은 것만 반영
+}
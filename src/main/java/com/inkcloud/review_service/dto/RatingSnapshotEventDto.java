@@ -0,0 +1,17 @@
+package com.inkcloud.review_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 상품 평점 절대값 스냅숏 (압축 토픽, productId 키) - 컨슈머는 증분 이벤트 대신 이 값으로 자기 집계를 덮어써 맞출 수 있다
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSnapshotEventDto {
+    private Long productId;
+    private long reviewCount;
+    private long ratingSum;
+    private long[] histogram; // 별점 1~5 순서의 리뷰 수
+    private long snapshotAt;  // 집계한 시각 (epoch millis)
+}
@@ -0,0 +1,27 @@
+package com.inkcloud.review_service.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RatingSummaryDto {
+
+    private Long productId;
+
+    private long reviewCount;
+
+    private long ratingSum;
+
+    private double averageRating; // 소수점 둘째 자리까지
+
+    private Map<Integer, Long> histogram; // 별점(1~5) -> 리뷰 수
+}
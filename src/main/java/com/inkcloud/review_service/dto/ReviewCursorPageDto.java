@@ -0,0 +1,23 @@
+package com.inkcloud.review_service.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewCursorPageDto {
+
+    private List<ReviewDto> content;
+
+    private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+
+    private boolean hasNext;
+}
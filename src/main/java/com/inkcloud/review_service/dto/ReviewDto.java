@@ -13,7 +13,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class ReviewDto {
 
     private Long id;
@@ -37,4 +37,18 @@ public class ReviewDto {
     private boolean likedByMe;
     
     List<ReviewReportDto> reports;
+
+    // JPQL/Querydsl 생성자 프로젝션용 - 엔티티를 영속성 컨텍스트에 올리지 않고 바로 DTO 로 조회
+    public ReviewDto(Long id, String email, Long productId, String productName, Integer rating, String comment,
+                     int likeCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.email = email;
+        this.productId = productId;
+        this.productName = productName;
+        this.rating = rating;
+        this.comment = comment;
+        this.likeCount = likeCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 }
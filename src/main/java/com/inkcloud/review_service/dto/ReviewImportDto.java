@@ -0,0 +1,33 @@
+package com.inkcloud.review_service.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 일괄 가져오기 한 줄 (NDJSON) - 리뷰 하나와 그 리뷰에 좋아요한 사용자들
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewImportDto {
+
+    private Long productId;
+
+    private String productName;
+
+    private String email; // 작성자 이메일
+
+    private Integer rating;
+
+    private String comment;
+
+    private LocalDateTime createdAt; // 원래 작성 시각 (없으면 가져온 시각)
+
+    private List<String> likedBy; // 좋아요 누른 사용자 이메일
+}
@@ -0,0 +1,42 @@
+package com.inkcloud.review_service.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 일괄 가져오기 진행 상황 - 커밋된 청크까지의 누적 값
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewImportProgressDto {
+
+    private String jobId;
+
+    private String status; // RUNNING, COMPLETED, FAILED
+
+    private long read; // 읽은 줄 수
+
+    private long imported; // 새로 저장한 리뷰 수
+
+    private long skipped; // 이미 있는 (상품, 작성자) 리뷰라 건너뛴 수
+
+    private long rejected; // 필수 값이 없거나 범위를 벗어나 버린 줄 수
+
+    private long likes; // 새로 넣은 좋아요 행 수 (이미 있던 좋아요 제외)
+
+    private long chunks; // 커밋한 청크 수
+
+    private long rowsPerSecond;
+
+    private String lastError;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+}
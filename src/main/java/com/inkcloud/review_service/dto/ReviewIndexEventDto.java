@@ -0,0 +1,17 @@
+package com.inkcloud.review_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 관리자 검색 색인 변경 (모든 노드가 구독) - deleted 면 색인에서 제거
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewIndexEventDto {
+    private Long reviewId;
+    private String productName;
+    private String comment;
+    private String email;
+    private boolean deleted;
+}
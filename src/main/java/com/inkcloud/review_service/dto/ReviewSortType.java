@@ -0,0 +1,20 @@
+package com.inkcloud.review_service.dto;
+
+// 상품별 리뷰 커서 조회 정렬 기준 (최신순, 평점순, 좋아요순)
+public enum ReviewSortType {
+    NEWEST, RATING, LIKE_COUNT;
+
+    // 요청 파라미터(newest, rating, likeCount)를 정렬 기준으로 변환, 없으면 최신순
+    public static ReviewSortType from(String value) {
+        if (value == null || value.isBlank()) {
+            return NEWEST;
+        }
+        switch (value.trim().toLowerCase()) {
+            case "newest": return NEWEST;
+            case "rating": return RATING;
+            case "likecount":
+            case "like_count": return LIKE_COUNT;
+            default: throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다. (sort=" + value + ")");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.inkcloud.review_service.repository;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 관리자 검색 count 결과 캐시 - 정규화한 필터 키별로 짧은 TTL 동안 재사용, 쓰기가 일어나면 영역(namespace) 단위로 무효화
+@Component
+public class CountCache {
+
+    public static final String REVIEW = "review";
+    public static final String REPORT = "report";
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Value("${review.count-cache.ttl-ms:30000}")
+    private long ttlMillis = 30000;
+
+    @Value("${review.count-cache.max-entries:1000}")
+    private int maxEntries = 1000;
+
+    public long get(String namespace, String filterKey, LongSupplier loader) {
+        String key = namespace + ':' + filterKey;
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.count;
+        }
+
+        // count 도중 무효화되었으면 결과를 캐시하지 않는다
+        long generation = generation(namespace).get();
+        long count = loader.getAsLong();
+        if (generation(namespace).get() == generation) {
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entries.put(key, new Entry(count, now + ttlMillis));
+        }
+        return count;
+    }
+
+    public void invalidate(String namespace) {
+        generation(namespace).incrementAndGet();
+        String prefix = namespace + ':';
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private AtomicLong generation(String namespace) {
+        return generations.computeIfAbsent(namespace, key -> new AtomicLong());
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
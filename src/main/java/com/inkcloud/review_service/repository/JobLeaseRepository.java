@@ -0,0 +1,29 @@
+package com.inkcloud.review_service.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inkcloud.review_service.domain.JobLease;
+
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    // 임대가 끝났거나 이미 내 것이면 가져가거나 연장 - 바뀐 행이 있어야 임대 성공
+    @Modifying
+    @Query("update JobLease l set l.owner = :owner, l.leaseUntil = :until "
+            + "where l.name = :name and (l.leaseUntil < :now or l.owner = :owner)")
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+
+    // 처음 실행되는 작업의 행 - 이미 있으면 키 중복
+    @Modifying
+    @Query(value = "INSERT INTO job_lease (name, owner, lease_until) VALUES (:name, :owner, :until)", nativeQuery = true)
+    int create(@Param("name") String name, @Param("owner") String owner, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("update JobLease l set l.leaseUntil = :now where l.name = :name and l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,24 @@
+package com.inkcloud.review_service.repository;
+
+// 기본 샤드 분배 - 상품 ID 나머지
+public class ModuloShardRouter implements ShardRouter {
+
+    private final int shardCount;
+
+    public ModuloShardRouter(int shardCount) {
+        if (shardCount < 1 || shardCount > ReviewIdAllocator.MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드 수는 1 ~ " + ReviewIdAllocator.MAX_SHARDS + " 사이여야 합니다: " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public int shardCount() {
+        return shardCount;
+    }
+
+    @Override
+    public int shardForProduct(Long productId) {
+        return (int) Math.floorMod(productId, (long) shardCount);
+    }
+}
@@ -0,0 +1,45 @@
+package com.inkcloud.review_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.inkcloud.review_service.domain.OutboxEvent;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 가져갈 수 있는 미발행 이벤트 잠금 조회 (임대 중이 아니거나 임대가 끝난 것)
+    // 다른 인스턴스가 가져가는 중인 행은 건너뛴다 (lock.timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from OutboxEvent o where o.sentAt is null "
+            + "and (o.leaseUntil is null or o.leaseUntil < :now) order by o.id")
+    List<OutboxEvent> findClaimableForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxEvent o set o.leaseUntil = :leaseUntil where o.id in :ids")
+    int lease(@Param("ids") List<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("update OutboxEvent o set o.sentAt = :sentAt, o.leaseUntil = null where o.id in :ids")
+    int markSent(@Param("ids") List<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    // 발행 실패 - 임대를 풀어 다음 주기에 다시 가져가게 한다
+    @Modifying
+    @Query("update OutboxEvent o set o.attempts = o.attempts + 1, o.leaseUntil = null where o.id in :ids")
+    int releaseFailed(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("delete from OutboxEvent o where o.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,44 @@
+package com.inkcloud.review_service.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inkcloud.review_service.domain.ProductRatingSummary;
+
+import jakarta.persistence.LockModeType;
+
+public interface ProductRatingSummaryRepository extends JpaRepository<ProductRatingSummary, Long> {
+
+    // 집계 증분 반영 - 행이 없으면 생성, 있으면 원자적으로 누적 (read-modify-write 없이 한 문장)
+    @Modifying
+    @Query(value = "INSERT INTO product_rating_summary "
+            + "(product_id, review_count, rating_sum, star1, star2, star3, star4, star5, updated_at) "
+            + "VALUES (:productId, :countDelta, :sumDelta, :star1, :star2, :star3, :star4, :star5, NOW()) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "review_count = review_count + VALUES(review_count), "
+            + "rating_sum = rating_sum + VALUES(rating_sum), "
+            + "star1 = star1 + VALUES(star1), "
+            + "star2 = star2 + VALUES(star2), "
+            + "star3 = star3 + VALUES(star3), "
+            + "star4 = star4 + VALUES(star4), "
+            + "star5 = star5 + VALUES(star5), "
+            + "updated_at = NOW()", nativeQuery = true)
+    int applyDelta(@Param("productId") Long productId,
+                   @Param("countDelta") long countDelta,
+                   @Param("sumDelta") long sumDelta,
+                   @Param("star1") long star1,
+                   @Param("star2") long star2,
+                   @Param("star3") long star3,
+                   @Param("star4") long star4,
+                   @Param("star5") long star5);
+
+    // 검증 작업용 - 구간 내 집계 행 잠금 (검증 중 증분 갱신과 겹치지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ProductRatingSummary s where s.productId between :fromId and :toId")
+    List<ProductRatingSummary> findAllForUpdate(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
@@ -0,0 +1,28 @@
+package com.inkcloud.review_service.repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inkcloud.review_service.domain.ProductReviewVersion;
+
+public interface ProductReviewVersionRepository extends JpaRepository<ProductReviewVersion, Long> {
+
+    // 버전 증가 - 행이 없으면 1 로 생성 (한 문장, 호출 트랜잭션이 끝날 때까지 이 상품의 버전 행을 잠근다)
+    @Modifying
+    @Query(value = "INSERT INTO product_review_version (product_id, version) VALUES (:productId, 1) "
+            + "ON DUPLICATE KEY UPDATE version = version + 1", nativeQuery = true)
+    int bump(@Param("productId") Long productId);
+
+    // 여러 상품 - 상품 ID 순서로 잠가 동시에 도는 트랜잭션끼리 교착되지 않게
+    default void bumpAll(Collection<Long> productIds) {
+        productIds.stream().distinct().sorted().forEach(this::bump);
+    }
+
+    @Query("select v.version from ProductReviewVersion v where v.productId = :productId")
+    Optional<Long> findVersion(@Param("productId") Long productId);
+}
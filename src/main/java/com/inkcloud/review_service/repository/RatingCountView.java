@@ -0,0 +1,11 @@
+package com.inkcloud.review_service.repository;
+
+// review 테이블 (상품, 평점) 별 리뷰 수 집계 결과
+public interface RatingCountView {
+
+    Long getProductId();
+
+    Integer getRating();
+
+    Long getCnt();
+}
@@ -0,0 +1,19 @@
+package com.inkcloud.review_service.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.inkcloud.review_service.domain.RatingSnapshotState;
+
+public interface RatingSnapshotStateRepository extends JpaRepository<RatingSnapshotState, Long> {
+
+    String UPSERT_SQL = "INSERT INTO rating_snapshot_state (product_id, fingerprint, published_at) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE fingerprint = VALUES(fingerprint), published_at = VALUES(published_at)";
+
+    // 스냅숏 작업용 - 상품 ID 구간의 마지막 발행 지문
+    @Query("select s from RatingSnapshotState s where s.productId between :fromId and :toId")
+    List<RatingSnapshotState> findAllInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
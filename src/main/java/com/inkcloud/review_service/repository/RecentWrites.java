@@ -0,0 +1,77 @@
+package com.inkcloud.review_service.repository;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 최근 쓰기가 있었던 키와 그 만료 시각 - 이 시간 동안 해당 키의 읽기는 복제본 대신 primary 로 (복제 지연으로 옛 값이 보이지 않게)
+// 키는 사용자 이메일(쓰기 트랜잭션을 연 사용자), "product:<id>"(무효화된 상품 리뷰 캐시), "review:<id>"/"author:<email>"(좋아요 수 반영). 라우팅 DataSource 가 샤드마다 있어도 하나를 같이 쓴다.
+// 현재 스레드가 어떤 키로 읽는지는 readingFor 로 지정한다 - 라우팅 DataSource 가 커넥션을 얻는 시점(첫 쿼리)에 읽으므로 첫 쿼리 전에 감싸야 한다.
+@Component
+public class RecentWrites {
+
+    private static final int MAX_KEYS = 100_000;
+    private static final ThreadLocal<String> READING = new ThreadLocal<>();
+
+    private final ConcurrentHashMap<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final long stickyMillis;
+
+    public RecentWrites(@Value("${review.datasource.replicas.sticky-ms:3000}") long stickyMillis) {
+        this.stickyMillis = stickyMillis;
+    }
+
+    // 이 키의 다음 읽기를 일정 시간 primary 로 고정
+    public void mark(String key) {
+        long now = System.currentTimeMillis();
+        if (stickyUntil.size() >= MAX_KEYS) {
+            stickyUntil.values().removeIf(until -> until <= now);
+        }
+        stickyUntil.put(key, now + stickyMillis);
+    }
+
+    public boolean isRecent(String key) {
+        Long until = stickyUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until <= System.currentTimeMillis()) {
+            stickyUntil.remove(key, until);
+            return false;
+        }
+        return true;
+    }
+
+    // 작업 안의 읽기를 key 로 표시 - key 에 최근 쓰기가 있을 때만 primary, 아니면 평소대로 복제본 (쓰기가 아니므로 고정을 남기지 않는다)
+    public static <T> T readingFor(String key, Supplier<T> work) {
+        String previous = READING.get();
+        READING.set(key);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                READING.remove();
+            } else {
+                READING.set(previous);
+            }
+        }
+    }
+
+    public static String readingKey() {
+        return READING.get();
+    }
+
+    public static String productKey(Long productId) {
+        return "product:" + productId;
+    }
+
+    public static String reviewKey(Long reviewId) {
+        return "review:" + reviewId;
+    }
+
+    // 작성자별 리뷰 목록 - 작성자 본인의 쓰기 고정(이메일 키)과는 따로 둔다
+    public static String authorKey(String email) {
+        return "author:" + email;
+    }
+}
@@ -0,0 +1,13 @@
+package com.inkcloud.review_service.repository;
+
+// 리뷰 일괄 삭제 시 권한 확인과 평점 이벤트 생성에 필요한 컬럼만 조회
+public interface ReviewDeleteView {
+
+    Long getId();
+
+    String getEmail();
+
+    Long getProductId();
+
+    Integer getRating();
+}
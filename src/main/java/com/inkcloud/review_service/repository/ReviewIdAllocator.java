@@ -0,0 +1,177 @@
+package com.inkcloud.review_service.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.inkcloud.review_service.config.IdReservationPool;
+
+// 샤드를 담은 전역 고유 ID 발급 - id = (샤드별 시퀀스 << 8) | 샤드
+// 샤드마다 review_id_sequence 행에서 블록 단위로 시퀀스를 예약해 메모리에서 나눠 준다 (INSERT 마다 DB 왕복 없음).
+// IDENTITY 로 발급된 기존 행은 모두 0번 샤드에 있으므로, 시퀀스를 처음 만들 때 기존 최대 ID(legacy ceiling) 를 기록하고
+// 그 이하 ID 는 0번 샤드로, 새 ID 는 항상 그보다 크게 발급한다.
+// 예약은 전용 작은 풀(IdReservationDataSourceConfig)로 해서, 호출한 트랜잭션이 쥔 업무 풀 커넥션과 서로 기다리지 않는다.
+@Component
+public class ReviewIdAllocator {
+
+    public static final String REVIEW = "review";
+    public static final String REVIEW_REPORT = "review_report";
+
+    public static final int SHARD_BITS = 8;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+    private static final long SHARD_MASK = MAX_SHARDS - 1;
+
+    private final DataSource dataSource;
+    private final ShardRouter shardRouter;
+    private final ConcurrentHashMap<String, Block> blocks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> legacyCeilings = new ConcurrentHashMap<>();
+
+    @Value("${review.id.block-size:100}")
+    private int blockSize = 100;
+
+    public ReviewIdAllocator(IdReservationPool reservationPool, ShardRouter shardRouter) {
+        this.dataSource = reservationPool.dataSource();
+        this.shardRouter = shardRouter;
+    }
+
+    public long nextIdForProduct(String sequence, Long productId) {
+        return nextId(sequence, shardRouter.shardForProduct(productId));
+    }
+
+    public long nextId(String sequence, int shard) {
+        Block block = blocks.computeIfAbsent(sequence + ':' + shard, key -> new Block());
+        block.lock.lock();
+        try {
+            if (block.next >= block.limit) {
+                long start = reserve(sequence, shard, blockSize);
+                block.next = start;
+                block.limit = start + blockSize;
+            }
+            return (block.next++ << SHARD_BITS) | shard;
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    // ID 가 저장된 샤드
+    public int shardOf(String sequence, long id) {
+        if (shardRouter.shardCount() == 1) {
+            return 0;
+        }
+        return id <= legacyCeiling(sequence) ? 0 : (int) (id & SHARD_MASK);
+    }
+
+    private long legacyCeiling(String sequence) {
+        Long ceiling = legacyCeilings.get(sequence);
+        if (ceiling == null) {
+            ceiling = ShardContext.call(0, () -> withConnection(connection -> loadOrCreate(connection, sequence, 0)[1]));
+            legacyCeilings.put(sequence, ceiling);
+        }
+        return ceiling;
+    }
+
+    // 시퀀스 블록 예약 - 별도 커넥션/트랜잭션으로 처리해 호출한 트랜잭션이 롤백되어도 ID 가 재사용되지 않게 한다
+    private long reserve(String sequence, int shard, int size) {
+        long ceiling = legacyCeiling(sequence);
+        return ShardContext.call(shard, () -> withConnection(connection -> {
+            connection.setAutoCommit(false);
+            try {
+                long next = lockNext(connection, sequence, shard, ceiling);
+                try (PreparedStatement update = connection.prepareStatement(
+                        "UPDATE review_id_sequence SET next_val = ? WHERE seq_key = ?")) {
+                    update.setLong(1, next + size);
+                    update.setString(2, key(sequence, shard));
+                    update.executeUpdate();
+                }
+                connection.commit();
+                return next;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }));
+    }
+
+    // 0번 샤드 시퀀스 행 (없으면 기존 최대 ID 로 생성) - {next_val, legacy_ceiling}
+    private long[] loadOrCreate(Connection connection, String sequence, int shard) throws SQLException {
+        long[] row = select(connection, key(sequence, shard), false);
+        if (row != null) {
+            return row;
+        }
+        long ceiling;
+        try (PreparedStatement max = connection.prepareStatement("SELECT COALESCE(MAX(id), 0) FROM " + sequence);
+             ResultSet rs = max.executeQuery()) {
+            rs.next();
+            ceiling = rs.getLong(1);
+        }
+        insert(connection, sequence, shard, ceiling);
+        return select(connection, key(sequence, shard), false);
+    }
+
+    // 잠금을 잡고 현재 next_val 조회, 행이 없으면 ceiling + 1 부터 시작하는 행 생성
+    private long lockNext(Connection connection, String sequence, int shard, long ceiling) throws SQLException {
+        long[] row = select(connection, key(sequence, shard), true);
+        if (row == null) {
+            insert(connection, sequence, shard, ceiling);
+            row = select(connection, key(sequence, shard), true);
+        }
+        return row[0];
+    }
+
+    private long[] select(Connection connection, String key, boolean forUpdate) throws SQLException {
+        String sql = "SELECT next_val, legacy_ceiling FROM review_id_sequence WHERE seq_key = ?" + (forUpdate ? " FOR UPDATE" : "");
+        try (PreparedStatement select = connection.prepareStatement(sql)) {
+            select.setString(1, key);
+            try (ResultSet rs = select.executeQuery()) {
+                return rs.next() ? new long[] { rs.getLong(1), rs.getLong(2) } : null;
+            }
+        }
+    }
+
+    // 동시에 여러 노드가 만들면 한 곳만 성공 - 나머지는 이미 만들어진 행을 사용
+    private void insert(Connection connection, String sequence, int shard, long ceiling) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO review_id_sequence (seq_key, next_val, legacy_ceiling) VALUES (?, ?, ?)")) {
+            insert.setString(1, key(sequence, shard));
+            insert.setLong(2, ceiling + 1);
+            insert.setLong(3, ceiling);
+            insert.executeUpdate();
+        } catch (SQLIntegrityConstraintViolationException e) {
+            // 다른 노드가 먼저 생성
+        }
+    }
+
+    private static String key(String sequence, int shard) {
+        return sequence + ':' + shard;
+    }
+
+    private <T> T withConnection(SqlWork<T> work) {
+        try (Connection connection = dataSource.getConnection()) {
+            return work.apply(connection);
+        } catch (SQLException e) {
+            throw new IllegalStateException("ID 시퀀스 예약 실패", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlWork<T> {
+        T apply(Connection connection) throws SQLException;
+    }
+
+    private static final class Block {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next;
+        private long limit;
+    }
+}
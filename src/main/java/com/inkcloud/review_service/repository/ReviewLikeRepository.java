@@ -1,19 +1,29 @@
 package com.inkcloud.review_service.repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import com.inkcloud.review_service.domain.Review;
 import com.inkcloud.review_service.domain.ReviewLike;
 
 public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
 
     boolean existsByReviewIdAndEmail(Long reviewId, String email);
 
-    Optional<ReviewLike> findByReviewAndEmail(Review review, String email);
+    // 좋아요 취소 - 누른 적이 없으면 0, 삭제되면 1
+    @Modifying
+    @Query("delete from ReviewLike l where l.review.id = :reviewId and l.email = :email")
+    int deleteByReviewIdAndEmail(@Param("reviewId") Long reviewId, @Param("email") String email);
 
-    List<ReviewLike> findAllByEmail(String email);
+    // 상품의 리뷰 중 사용자가 좋아요한 리뷰 ID (세미조인, 엔티티 로딩 없이 ID 만 조회)
+    @Query("select l.review.id from ReviewLike l where l.email = :email "
+            + "and l.review.id in (select r.id from Review r where r.productId = :productId)")
+    List<Long> findLikedReviewIds(@Param("email") String email, @Param("productId") Long productId);
 
-    
+    @Modifying
+    @Query("delete from ReviewLike l where l.review.id in :reviewIds")
+    int deleteAllByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
 }
@@ -1,9 +1,14 @@
 package com.inkcloud.review_service.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.inkcloud.review_service.domain.ReviewReport;
+import com.inkcloud.review_service.dto.ReviewReportDto;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ReviewReportRepository extends JpaRepository<ReviewReport, Long>, ReviewReportRepositoryCustom {
@@ -13,4 +18,21 @@ public interface ReviewReportRepository extends JpaRepository<ReviewReport, Long
     boolean existsByReviewIdAndReporterEmail(Long reviewId, String reporterEmail);
 
     List<ReviewReport> findAllByReviewId(Long reviewId);
+
+    // 리뷰별 신고 내역 (DTO 프로젝션, 리뷰 정보는 조인으로 함께 조회)
+    @Query("select new com.inkcloud.review_service.dto.ReviewReportDto("
+            + "rr.id, r.id, r.productId, r.productName, rr.reporterEmail, rr.type, rr.reason, rr.reportedAt) "
+            + "from ReviewReport rr join rr.review r where r.id = :reviewId")
+    List<ReviewReportDto> findDtosByReviewId(@Param("reviewId") Long reviewId);
+
+    @Query("select r.id from ReviewReport r where r.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from ReviewReport r where r.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from ReviewReport r where r.review.id in :reviewIds")
+    int deleteAllByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
 }
@@ -1,18 +1,38 @@
 package com.inkcloud.review_service.repository;
 
 import com.inkcloud.review_service.domain.ReportType;
-import com.inkcloud.review_service.domain.ReviewReport;
+import com.inkcloud.review_service.dto.ReviewReportDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
+import java.util.stream.Stream;
 
 public interface ReviewReportRepositoryCustom {
-    Page<ReviewReport> searchReports(
+    Page<ReviewReportDto> searchReports(
         ReportType type,
         LocalDateTime from,
         LocalDateTime to,
         String keyword,
         Pageable pageable
     );
+
+    // count 없이 다음 페이지 존재 여부만 확인 (무한 스크롤)
+    Slice<ReviewReportDto> searchReportsSlice(
+        ReportType type,
+        LocalDateTime from,
+        LocalDateTime to,
+        String keyword,
+        Pageable pageable
+    );
+
+    // 내보내기용 전진 전용 스트림 (id 순, fetchSize 단위로 가져옴) - 호출 측이 트랜잭션 안에서 사용 후 닫아야 한다
+    Stream<ReviewReportDto> streamReports(
+        ReportType type,
+        LocalDateTime from,
+        LocalDateTime to,
+        String keyword,
+        int fetchSize
+    );
 }
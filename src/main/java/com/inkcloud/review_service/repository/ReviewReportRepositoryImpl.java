@@ -1,28 +1,38 @@
 package com.inkcloud.review_service.repository;
 
+import com.inkcloud.review_service.domain.QReview;
 import com.inkcloud.review_service.domain.QReviewReport;
 import com.inkcloud.review_service.domain.ReportType;
-import com.inkcloud.review_service.domain.ReviewReport;
+import com.inkcloud.review_service.dto.ReviewReportDto;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
 public class ReviewReportRepositoryImpl implements ReviewReportRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final CountCache countCache;
 
+    // review 를 조인해 필요한 컬럼만 DTO 로 바로 조회 - 페이지당 목록 1회 + (필요할 때만) count 1회
     @Override
-    public Page<ReviewReport> searchReports(
+    public Page<ReviewReportDto> searchReports(
             ReportType type,
             LocalDateTime from,
             LocalDateTime to,
@@ -30,7 +40,82 @@ public class ReviewReportRepositoryImpl implements ReviewReportRepositoryCustom
             Pageable pageable
     ) {
         QReviewReport report = QReviewReport.reviewReport;
+        BooleanExpression predicate = filterPredicate(report, type, from, to, keyword);
 
+        List<ReviewReportDto> content = selectReportDtos(report, predicate)
+                .orderBy(report.reportedAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 첫 페이지가 덜 찼거나 마지막 페이지면 count 쿼리를 생략, 필요할 때도 같은 필터의 count 는 짧게 캐시
+        String filterKey = type + "|" + from + "~" + to + "|"
+                + (keyword == null || keyword.isBlank() ? "" : keyword.trim().toLowerCase(Locale.ROOT))
+                + "@" + ShardContext.current();
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> countCache.get(CountCache.REPORT, filterKey, () -> queryFactory
+                        .select(report.count())
+                        .from(report)
+                        .where(predicate)
+                        .fetchOne()));
+    }
+
+    // 무한 스크롤용 - count 없이 size + 1 건으로 다음 페이지 존재 여부만 확인
+    @Override
+    public Slice<ReviewReportDto> searchReportsSlice(
+            ReportType type,
+            LocalDateTime from,
+            LocalDateTime to,
+            String keyword,
+            Pageable pageable
+    ) {
+        QReviewReport report = QReviewReport.reviewReport;
+        List<ReviewReportDto> content = selectReportDtos(report, filterPredicate(report, type, from, to, keyword))
+                .orderBy(report.reportedAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    // 내보내기 - OFFSET/count 없이 한 번의 전진 전용 스크롤
+    @Override
+    public Stream<ReviewReportDto> streamReports(
+            ReportType type,
+            LocalDateTime from,
+            LocalDateTime to,
+            String keyword,
+            int fetchSize
+    ) {
+        QReviewReport report = QReviewReport.reviewReport;
+        return selectReportDtos(report, filterPredicate(report, type, from, to, keyword))
+                .orderBy(report.id.asc()) // PK 순서라 정렬 없이 인덱스 순서대로 읽는다
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    private JPAQuery<ReviewReportDto> selectReportDtos(QReviewReport report, BooleanExpression predicate) {
+        QReview review = QReview.review;
+        return queryFactory
+                .select(Projections.constructor(ReviewReportDto.class,
+                        report.id,
+                        review.id,
+                        review.productId,
+                        review.productName,
+                        report.reporterEmail,
+                        report.type,
+                        report.reason,
+                        report.reportedAt))
+                .from(report)
+                .join(report.review, review)
+                .where(predicate);
+    }
+
+    private BooleanExpression filterPredicate(
+            QReviewReport report, ReportType type, LocalDateTime from, LocalDateTime to, String keyword) {
         BooleanExpression predicate = report.id.isNotNull();
 
         if (type != null) {
@@ -45,22 +130,6 @@ public class ReviewReportRepositoryImpl implements ReviewReportRepositoryCustom
                 .or(report.reporterEmail.containsIgnoreCase(keyword))
             );
         }
-
-        List<ReviewReport> content = queryFactory
-                .selectFrom(report)
-                .where(predicate)
-                .orderBy(report.reportedAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        log.info("content: {}", content);
-        long total = queryFactory
-                .select(report.count())
-                .from(report)
-                .where(predicate)
-                .fetchOne();
-
-        return PageableExecutionUtils.getPage(content, pageable, () -> total);
+        return predicate;
     }
 }
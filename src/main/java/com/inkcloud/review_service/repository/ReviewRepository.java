@@ -1,10 +1,16 @@
 package com.inkcloud.review_service.repository;
 
 import com.inkcloud.review_service.domain.Review;
+import com.inkcloud.review_service.dto.ReviewDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +20,53 @@ public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRep
     // 책 ID로 리뷰 조회
     List<Review> findAllByProductId(Long productId);
 
+    // 조회 전용 DTO 프로젝션 - 엔티티/연관 컬렉션을 로딩하지 않고 필요한 컬럼만 ReviewDto 생성자로 조회
+    String REVIEW_DTO_SELECT = "select new com.inkcloud.review_service.dto.ReviewDto("
+            + "r.id, r.email, r.productId, r.productName, r.rating, r.comment, r.likeCount, r.createdAt, r.updatedAt) "
+            + "from Review r ";
+
+    // 책 ID로 리뷰 조회 (DTO)
+    @Query(REVIEW_DTO_SELECT + "where r.productId = :productId")
+    List<ReviewDto> findDtosByProductId(@Param("productId") Long productId);
+
+    // 회원이메일로 리뷰 조회+기간별 (DTO)
+    @Query(REVIEW_DTO_SELECT + "where r.email = :email and r.createdAt between :start and :end")
+    List<ReviewDto> findDtosByEmailAndCreatedAtBetween(@Param("email") String email,
+                                                       @Param("start") LocalDateTime start,
+                                                       @Param("end") LocalDateTime end);
+
+    // 리뷰 상세 (DTO)
+    @Query(REVIEW_DTO_SELECT + "where r.id = :id")
+    Optional<ReviewDto> findDtoById(@Param("id") Long id);
+
     // 리뷰 작성시 상품에 이미 작성한 회원의 리뷰가 있는지 확인
     Optional<Review> findByProductIdAndEmail(Long productId, String email);
 
+    // 리뷰 작성 중복시 기존 리뷰 ID
+    @Query("select r.id from Review r where r.productId = :productId and r.email = :email")
+    Optional<Long> findIdByProductIdAndEmail(@Param("productId") Long productId, @Param("email") String email);
+
+    // 리뷰 수정 권한 확인
+    boolean existsByIdAndEmail(Long id, String email);
+
     // 회원이메일로 리뷰 조회+기간별
     List<Review> findByEmailAndCreatedAtBetween(String email, LocalDateTime start, LocalDateTime end);
+
+    // 상품 ID 오름차순 keyset 조회 (집계 검증 작업 청크 단위)
+    @Query("select distinct r.productId from Review r where r.productId > :after order by r.productId")
+    List<Long> findProductIdsAfter(@Param("after") Long after, Pageable pageable);
+
+    // 상품 ID 구간의 (상품, 평점)별 리뷰 수
+    @Query("select r.productId as productId, r.rating as rating, count(r) as cnt from Review r "
+            + "where r.productId between :fromId and :toId group by r.productId, r.rating")
+    List<RatingCountView> countRatingsByProductIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 일괄 삭제 대상의 소유자/상품/평점 (권한 확인을 한 번의 쿼리로)
+    @Query("select r.id as id, r.email as email, r.productId as productId, r.rating as rating "
+            + "from Review r where r.id in :ids")
+    List<ReviewDeleteView> findDeleteViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Review r where r.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
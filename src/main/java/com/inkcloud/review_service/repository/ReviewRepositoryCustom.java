@@ -1,11 +1,30 @@
 package com.inkcloud.review_service.repository;
 
 import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.dto.ReviewSortType;
+import com.inkcloud.review_service.util.ReviewCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface ReviewRepositoryCustom {
     Page<ReviewDto> searchReviews(
         String keyword, String startDate, String endDate, Integer minRating, Integer maxRating, Pageable pageable
     );
+
+    // count 없이 다음 페이지 존재 여부만 확인 (무한 스크롤)
+    Slice<ReviewDto> searchReviewsSlice(
+        String keyword, String startDate, String endDate, Integer minRating, Integer maxRating, Pageable pageable
+    );
+
+    // 내보내기용 전진 전용 스트림 (id 순, fetchSize 단위로 가져옴) - 호출 측이 트랜잭션 안에서 사용 후 닫아야 한다
+    Stream<ReviewDto> streamReviews(
+        String keyword, String startDate, String endDate, Integer minRating, Integer maxRating, int fetchSize
+    );
+
+    // 상품별 리뷰 커서 조회 - cursor 가 null 이면 첫 페이지
+    List<ReviewDto> findByProductIdWithCursor(Long productId, ReviewSortType sort, ReviewCursor cursor, int limit);
 }
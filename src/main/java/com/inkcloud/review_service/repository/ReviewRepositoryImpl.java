@@ -1,35 +1,129 @@
 package com.inkcloud.review_service.repository;
 
 import com.inkcloud.review_service.domain.QReview;
-import com.inkcloud.review_service.domain.Review;
 import com.inkcloud.review_service.dto.ReviewDto;
-import com.inkcloud.review_service.util.ReviewMapper;
+import com.inkcloud.review_service.dto.ReviewSortType;
+import com.inkcloud.review_service.util.ReviewCursor;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
-    private final ReviewMapper reviewMapper; // 서비스 주입
+    private final ReviewSearchIndex reviewSearchIndex;
+    private final CountCache countCache;
 
     @Override
     public Page<ReviewDto> searchReviews(
             String keyword, String startDate, String endDate, Integer minRating, Integer maxRating, Pageable pageable) {
 
         QReview review = QReview.review;
+        BooleanBuilder builder = filterPredicate(review, keyword, startDate, endDate, minRating, maxRating);
+
+        List<ReviewDto> dtoList = queryFactory
+                .select(reviewDto(review))
+                .from(review)
+                .where(builder)
+                .orderBy(review.createdAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 마지막/덜 찬 페이지면 count 생략, 필요할 때도 같은 필터의 count 는 짧게 캐시
+        String filterKey = filterKey(keyword, startDate, endDate, minRating, maxRating);
+        return PageableExecutionUtils.getPage(dtoList, pageable,
+                () -> countCache.get(CountCache.REVIEW, filterKey, () -> queryFactory
+                        .select(review.count())
+                        .from(review)
+                        .where(builder)
+                        .fetchOne()));
+    }
+
+    // 무한 스크롤용 - count 없이 size + 1 건으로 다음 페이지 존재 여부만 확인
+    @Override
+    public Slice<ReviewDto> searchReviewsSlice(
+            String keyword, String startDate, String endDate, Integer minRating, Integer maxRating, Pageable pageable) {
+
+        QReview review = QReview.review;
+        BooleanBuilder builder = filterPredicate(review, keyword, startDate, endDate, minRating, maxRating);
+
+        List<ReviewDto> content = queryFactory
+                .select(reviewDto(review))
+                .from(review)
+                .where(builder)
+                .orderBy(review.createdAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        List<ReviewDto> dtoList = hasNext ? content.subList(0, pageable.getPageSize()) : content;
+        return new SliceImpl<>(dtoList, pageable, hasNext);
+    }
+
+    // 내보내기 - OFFSET/count 없이 한 번의 전진 전용 스크롤, DTO 프로젝션이라 영속성 컨텍스트에 쌓이지 않는다
+    @Override
+    public Stream<ReviewDto> streamReviews(
+            String keyword, String startDate, String endDate, Integer minRating, Integer maxRating, int fetchSize) {
+
+        QReview review = QReview.review;
+        BooleanBuilder builder = filterPredicate(review, keyword, startDate, endDate, minRating, maxRating);
+        return queryFactory
+                .select(reviewDto(review))
+                .from(review)
+                .where(builder)
+                .orderBy(review.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    // 조회 전용 DTO 프로젝션 - 엔티티 대신 필요한 컬럼만 ReviewDto 생성자로
+    private ConstructorExpression<ReviewDto> reviewDto(QReview review) {
+        return Projections.constructor(ReviewDto.class,
+                review.id,
+                review.email,
+                review.productId,
+                review.productName,
+                review.rating,
+                review.comment,
+                review.likeCount,
+                review.createdAt,
+                review.updatedAt);
+    }
+
+    // 관리자 검색 조건 (JMH 벤치마크를 위해 패키지 범위)
+    BooleanBuilder filterPredicate(
+            QReview review, String keyword, String startDate, String endDate, Integer minRating, Integer maxRating) {
         BooleanBuilder builder = new BooleanBuilder();
 
         if (keyword != null && !keyword.isEmpty()) {
+            // 검색 색인으로 후보 ID 를 먼저 좁히고, 후보에 대해서만 LIKE 로 확인
+            // 색인은 변경 스트림으로 뒤늦게 따라오는 힌트이므로 후보가 없거나 색인을 쓸 수 없으면 전체 LIKE
+            List<Long> candidates = reviewSearchIndex.search(keyword);
+            if (candidates != null && !candidates.isEmpty()) {
+                builder.and(review.id.in(candidates));
+            }
             builder.and(
                 review.productName.containsIgnoreCase(keyword)
                     .or(review.comment.containsIgnoreCase(keyword))
@@ -37,21 +131,7 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
             );
         }
         if (startDate != null && endDate != null) {
-            LocalDateTime start;
-            LocalDateTime end;
-
-            if (startDate.endsWith("Z")) {
-                // Zulu(UTC) 포맷 처리
-                DateTimeFormatter formatter = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
-                start = OffsetDateTime.parse(startDate, formatter).toLocalDateTime();
-                end = OffsetDateTime.parse(endDate, formatter).toLocalDateTime();
-            } else {
-                // 기존 방식 (yyyy-MM-ddTHH:mm:ss 등)
-                start = LocalDateTime.parse(startDate);
-                end = LocalDateTime.parse(endDate);
-            }
-
-            builder.and(review.createdAt.between(start, end));
+            builder.and(review.createdAt.between(parseDateTime(startDate), parseDateTime(endDate)));
         }
         if (minRating != null) {
             builder.and(review.rating.goe(minRating));
@@ -59,24 +139,72 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
         if (maxRating != null) {
             builder.and(review.rating.loe(maxRating));
         }
+        return builder;
+    }
+
+    private LocalDateTime parseDateTime(String value) {
+        if (value.endsWith("Z")) {
+            // Zulu(UTC) 포맷 처리
+            return OffsetDateTime.parse(value, DateTimeFormatter.ISO_OFFSET_DATE_TIME).toLocalDateTime();
+        }
+        // 기존 방식 (yyyy-MM-ddTHH:mm:ss 등)
+        return LocalDateTime.parse(value);
+    }
+
+    // count 캐시 키 - 같은 조건이면 표기가 달라도 같은 키 (키워드 대소문자/공백, 날짜 포맷), 샤드별로 구분
+    private String filterKey(String keyword, String startDate, String endDate, Integer minRating, Integer maxRating) {
+        String normalizedKeyword = (keyword == null || keyword.isEmpty()) ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+        String range = (startDate != null && endDate != null)
+                ? parseDateTime(startDate) + "~" + parseDateTime(endDate) : "";
+        return normalizedKeyword + '|' + range + '|' + minRating + '|' + maxRating + '@' + ShardContext.current();
+    }
+
+    @Override
+    public List<ReviewDto> findByProductIdWithCursor(Long productId, ReviewSortType sort, ReviewCursor cursor, int limit) {
+        QReview review = QReview.review;
+        BooleanBuilder builder = new BooleanBuilder(review.productId.eq(productId));
+
+        if (cursor != null) {
+            builder.and(seekPredicate(review, sort, cursor));
+        }
 
-        List<Review> content = queryFactory
-                .selectFrom(review)
+        return queryFactory
+                .select(reviewDto(review))
+                .from(review)
                 .where(builder)
-                .orderBy(review.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .orderBy(orderSpecifiers(review, sort))
+                .limit(limit)
                 .fetch();
+    }
 
-        long total = queryFactory
-                .selectFrom(review)
-                .where(builder)
-                .fetchCount();
+    // 정렬 컬럼 (NEWEST 는 created_at 자체가 정렬 기준이므로 null)
+    private NumberPath<Integer> sortPath(QReview review, ReviewSortType sort) {
+        return switch (sort) {
+            case RATING -> review.rating;
+            case LIKE_COUNT -> review.likeCount;
+            case NEWEST -> null;
+        };
+    }
+
+    // (정렬값, created_at, id) 내림차순 - 복합 인덱스 (product_id, 정렬값, created_at, id) 순서와 일치
+    private OrderSpecifier<?>[] orderSpecifiers(QReview review, ReviewSortType sort) {
+        NumberPath<Integer> sortPath = sortPath(review, sort);
+        if (sortPath == null) {
+            return new OrderSpecifier<?>[] { review.createdAt.desc(), review.id.desc() };
+        }
+        return new OrderSpecifier<?>[] { sortPath.desc(), review.createdAt.desc(), review.id.desc() };
+    }
 
-        List<ReviewDto> dtoList = content.stream()
-            .map(reviewMapper::entityToDto)
-            .toList();
+    // 마지막 행 이후만 조회하는 seek 조건 - OFFSET 없이 인덱스 범위 스캔으로 다음 페이지를 찾는다
+    private BooleanExpression seekPredicate(QReview review, ReviewSortType sort, ReviewCursor cursor) {
+        BooleanExpression afterCreated = review.createdAt.lt(cursor.getCreatedAt())
+                .or(review.createdAt.eq(cursor.getCreatedAt()).and(review.id.lt(cursor.getId())));
 
-        return new PageImpl<>(dtoList, pageable, total);
+        NumberPath<Integer> sortPath = sortPath(review, sort);
+        if (sortPath == null) {
+            return afterCreated;
+        }
+        return sortPath.lt(cursor.getSortValue())
+                .or(sortPath.eq(cursor.getSortValue()).and(afterCreated));
     }
 }
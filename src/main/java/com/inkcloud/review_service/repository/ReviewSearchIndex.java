@@ -0,0 +1,228 @@
+package com.inkcloud.review_service.repository;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.inkcloud.review_service.util.LongHashSet;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+// 관리자 키워드 검색용 메모리 역색인 (productName, comment, email)
+// 공백으로 나눈 토큰을 2-gram 으로 쪼개 색인한다. 한글은 형태소 분석 없이도 2-gram 이 부분 일치 검색에 잘 맞는다.
+// 키워드의 2-gram 을 모두 포함한 리뷰 ID 는 LIKE '%keyword%' 결과의 상위 집합이므로,
+// 후보 ID 를 먼저 구하고 DB 에서는 후보에 대해서만 LIKE/날짜/평점 조건을 확인한다.
+// 메모리는 (리뷰, 2-gram) 쌍 수에 비례한다 - max-postings 를 넘으면 색인을 비우고 끄며(검색은 LIKE), 크기는 지표로 노출한다.
+@Slf4j
+@Component
+public class ReviewSearchIndex implements MeterBinder {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, LongHashSet> postings = new HashMap<>(); // 2-gram -> 리뷰 ID
+    private final Map<Long, int[]> documents = new HashMap<>();        // 리뷰 ID -> 색인된 2-gram (갱신/삭제용)
+
+    // 초기 색인 중에 실시간으로 반영된 리뷰 - 스캔한 (더 오래된) 값으로 덮어쓰지 않는다
+    private Set<Long> touchedWhileBuilding = new HashSet<>();
+    private volatile boolean ready;
+    private volatile boolean overflowed;
+    private long postingCount; // 모든 2-gram 목록의 리뷰 ID 수 합
+
+    @Value("${review.search-index.max-candidates:5000}")
+    private int maxCandidates = 5000;
+
+    @Value("${review.search-index.max-postings:20000000}")
+    private long maxPostings = 20_000_000L;
+
+    public boolean isReady() {
+        return ready && !overflowed;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("review.search.index.documents", this, ReviewSearchIndex::size)
+                .description("색인된 리뷰 수")
+                .register(registry);
+        Gauge.builder("review.search.index.postings", this, ReviewSearchIndex::postings)
+                .description("2-gram 목록에 들어 있는 리뷰 ID 수 합 (메모리 사용량에 비례)")
+                .register(registry);
+        Gauge.builder("review.search.index.overflowed", this, index -> index.overflowed ? 1 : 0)
+                .description("max-postings 를 넘어 색인을 끈 경우 1")
+                .register(registry);
+    }
+
+    // 키워드 후보 리뷰 ID, 색인을 쓸 수 없으면(준비 전, 2글자 미만 키워드, 후보가 너무 많음) null
+    public List<Long> search(String keyword) {
+        if (!isReady()) {
+            return null;
+        }
+        int[] grams = grams(keyword);
+        if (grams.length == 0) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            LongHashSet[] sets = new LongHashSet[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                sets[i] = postings.get(grams[i]);
+                if (sets[i] == null) {
+                    return List.of();
+                }
+            }
+            Arrays.sort(sets, (a, b) -> Integer.compare(a.size(), b.size()));
+            if (sets[0].size() > maxCandidates && sets.length == 1) {
+                return null;
+            }
+
+            List<Long> candidates = new ArrayList<>();
+            sets[0].forEach(id -> {
+                for (int i = 1; i < sets.length; i++) {
+                    if (!sets[i].contains(id)) {
+                        return;
+                    }
+                }
+                candidates.add(id);
+            });
+            return candidates.size() > maxCandidates ? null : candidates;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 리뷰 작성/수정 반영
+    public void upsert(Long reviewId, String productName, String comment, String email) {
+        int[] grams = grams(productName, comment, email);
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                touchedWhileBuilding.add(reviewId);
+            }
+            put(reviewId, grams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 리뷰 삭제 반영
+    public void remove(Long reviewId) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                touchedWhileBuilding.add(reviewId);
+            }
+            removeDocument(reviewId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 초기 색인 - 청크 스캔 결과 반영 (실시간 반영이 먼저 된 리뷰는 건너뜀)
+    public void load(Long reviewId, String productName, String comment, String email) {
+        int[] grams = grams(productName, comment, email);
+        lock.writeLock().lock();
+        try {
+            if (!touchedWhileBuilding.contains(reviewId)) {
+                put(reviewId, grams);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            ready = true;
+            touchedWhileBuilding = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long postings() {
+        lock.readLock().lock();
+        try {
+            return postingCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Long reviewId, int[] grams) {
+        if (overflowed) {
+            return;
+        }
+        removeDocument(reviewId);
+        if (postingCount + grams.length > maxPostings) {
+            // 상한 초과 - 부분 색인은 검색 결과를 빠뜨리므로 전부 비우고 끈다 (재기동 전까지 LIKE)
+            log.error("검색 색인 상한 초과로 비활성화: documents={}, postings={}, max-postings={}",
+                    documents.size(), postingCount, maxPostings);
+            overflowed = true;
+            postings.clear();
+            documents.clear();
+            postingCount = 0;
+            return;
+        }
+        for (int gram : grams) {
+            postings.computeIfAbsent(gram, key -> new LongHashSet(4)).add(reviewId);
+        }
+        documents.put(reviewId, grams);
+        postingCount += grams.length;
+    }
+
+    private void removeDocument(Long reviewId) {
+        int[] old = documents.remove(reviewId);
+        if (old == null) {
+            return;
+        }
+        postingCount -= old.length;
+        for (int gram : old) {
+            LongHashSet ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(reviewId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    // 소문자/NFKC 정규화 후 공백 단위 토큰의 2-gram (중복 제거)
+    static int[] grams(String... texts) {
+        Set<Integer> grams = new HashSet<>();
+        for (String text : texts) {
+            if (text == null || text.isEmpty()) {
+                continue;
+            }
+            String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+            for (String token : normalized.split("\\s+")) {
+                for (int i = 0; i + 1 < token.length(); i++) {
+                    grams.add((token.charAt(i) << 16) | token.charAt(i + 1));
+                }
+            }
+        }
+        return grams.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,151 @@
+package com.inkcloud.review_service.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inkcloud.review_service.util.VirtualThreads;
+
+import jakarta.annotation.PreDestroy;
+
+// 리뷰 저장소 샤드 선택/실행 도우미
+// - 상품/리뷰 단위 작업: bindProduct/bindReview 로 현재 트랜잭션을 해당 샤드에 고정
+// - 샤드 전체 작업: scatter 로 샤드별 읽기 전용 트랜잭션을 병렬 실행하고 결과를 모은다
+// 샤드가 하나면 모든 작업을 호출 스레드/트랜잭션에서 그대로 실행한다.
+@Component
+public class ReviewShards {
+
+    private final ShardRouter shardRouter;
+    private final ReviewIdAllocator reviewIdAllocator;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate newTransaction;
+    private final ExecutorService executor;
+
+    public ReviewShards(ShardRouter shardRouter, ReviewIdAllocator reviewIdAllocator,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${review.virtual-threads.enabled:false}") boolean virtualThreads) {
+        this.shardRouter = shardRouter;
+        this.reviewIdAllocator = reviewIdAllocator;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = shardRouter.shardCount() == 1 ? null : scatterExecutor(shardRouter.shardCount(), virtualThreads);
+    }
+
+    // 가상 스레드 모드면 조회마다 가상 스레드를 띄우고(동시 실행 수는 커넥션 풀이 제한), 아니면 샤드 수 크기의 고정 풀
+    private static ExecutorService scatterExecutor(int shardCount, boolean virtualThreads) {
+        if (virtualThreads) {
+            return VirtualThreads.newPerTaskExecutor("review-shard-scatter");
+        }
+        return Executors.newFixedThreadPool(shardCount, runnable -> {
+            Thread thread = new Thread(runnable, "review-shard-scatter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int count() {
+        return shardRouter.shardCount();
+    }
+
+    public int forProduct(Long productId) {
+        return shardRouter.shardForProduct(productId);
+    }
+
+    public int forReview(Long reviewId) {
+        return reviewIdAllocator.shardOf(ReviewIdAllocator.REVIEW, reviewId);
+    }
+
+    public int forReport(Long reportId) {
+        return reviewIdAllocator.shardOf(ReviewIdAllocator.REVIEW_REPORT, reportId);
+    }
+
+    public void bindProduct(Long productId) {
+        ShardContext.bind(forProduct(productId));
+    }
+
+    public void bindReview(Long reviewId) {
+        ShardContext.bind(forReview(reviewId));
+    }
+
+    // ID 를 샤드별로 묶음 (샤드 번호 순)
+    public Map<Integer, List<Long>> groupReviewIds(Collection<Long> reviewIds) {
+        Map<Integer, List<Long>> groups = new TreeMap<>();
+        for (Long id : reviewIds) {
+            groups.computeIfAbsent(forReview(id), shard -> new ArrayList<>()).add(id);
+        }
+        return groups;
+    }
+
+    public Map<Integer, List<Long>> groupReportIds(Collection<Long> reportIds) {
+        Map<Integer, List<Long>> groups = new TreeMap<>();
+        for (Long id : reportIds) {
+            groups.computeIfAbsent(forReport(id), shard -> new ArrayList<>()).add(id);
+        }
+        return groups;
+    }
+
+    // 샤드마다 순서대로 실행 (배치 작업용, 작업 안에서 시작한 트랜잭션이 해당 샤드로 간다)
+    public void forEachShard(IntConsumer work) {
+        for (int shard = 0; shard < count(); shard++) {
+            int target = shard;
+            ShardContext.run(target, () -> work.accept(target));
+        }
+    }
+
+    // 지정한 샤드에서 새 트랜잭션으로 실행 (여러 샤드에 걸친 쓰기 - 샤드 간 원자성은 없음)
+    public <T> T inNewTransaction(int shard, Supplier<T> work) {
+        return ShardContext.call(shard, () -> newTransaction.execute(status -> work.get()));
+    }
+
+    // 모든 샤드에서 병렬 조회 후 샤드 순서대로 결과 반환
+    public <T> List<T> scatter(IntFunction<T> work) {
+        if (count() == 1) {
+            return List.of(ShardContext.call(0, () -> work.apply(0)));
+        }
+        // 복제본/primary 선택에 쓰는 읽기 키도 작업 스레드로 넘긴다
+        String readingKey = RecentWrites.readingKey();
+        List<CompletableFuture<T>> futures = new ArrayList<>(count());
+        for (int shard = 0; shard < count(); shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> ShardContext.call(target,
+                    () -> RecentWrites.readingFor(readingKey,
+                            () -> readOnlyTransaction.execute(status -> work.apply(target)))), executor));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
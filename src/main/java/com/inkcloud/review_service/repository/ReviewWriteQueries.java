@@ -0,0 +1,129 @@
+package com.inkcloud.review_service.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.inkcloud.review_service.domain.Review;
+import com.inkcloud.review_service.util.Chunks;
+
+// 리뷰 작성/수정의 단일 문장 쓰기 - 엔티티를 먼저 읽지 않고 DB 제약/조건으로 중복과 소유자를 확인한다 (호출 트랜잭션의 커넥션 사용)
+// - 작성: (product_id, email) 유니크 키에 INSERT, 중복이면 DuplicateKeyException 으로 감지 (MySQL 은 문장 단위로만 롤백되어 트랜잭션은 계속 쓸 수 있다)
+// - 좋아요: (review_id, email) 유니크 키에 INSERT, 작성과 같이 DuplicateKeyException 으로 이미 누른 좋아요를 감지한다.
+//   변경 건수는 새 행 수라 드라이버의 found rows/affected rows 설정과 관계없다 (ON DUPLICATE KEY UPDATE 는 설정에 따라 1 또는 0).
+// - 수정: 소유자 조건으로 행을 잠그며 이전 평점/상품을 읽고(SELECT ... FOR UPDATE), 같은 조건으로 UPDATE 한다.
+//   MySQL 에는 RETURNING 이 없어 이전 값은 잠금 조회로 얻는다 (잠금 덕분에 두 문장 사이에 다른 수정이 끼지 않는다).
+// - 좋아요 수 다시 세기: 증분 대신 review_like 행 수로 like_count 를 덮어쓴다 (가져오기, 좋아요 수 검증)
+@Component
+public class ReviewWriteQueries {
+
+    private static final String INSERT_SQL = "INSERT INTO review "
+            + "(id, email, product_id, product_name, rating, comment, like_count, created_at) VALUES (?, ?, ?, ?, ?, ?, 0, ?)";
+    private static final String LIKE_SQL = "INSERT INTO review_like (review_id, email, created_at) "
+            + "SELECT r.id, ?, NOW() FROM review r WHERE r.id = ?";
+    private static final String COUNT_LIKES_SQL = "SELECT COUNT(*) FROM review_like WHERE review_id IN (%s)";
+    private static final String RECOUNT_LIKES_SQL = "UPDATE review SET like_count = "
+            + "(SELECT COUNT(*) FROM review_like l WHERE l.review_id = review.id) WHERE id IN (%s)";
+    private static final int IN_CHUNK_SIZE = 500;
+    private static final String LOCK_SQL = "SELECT rating, product_id, product_name FROM review WHERE id = ? AND email = ? FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReviewWriteQueries(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 작성 - 이미 같은 상품에 작성자의 리뷰가 있으면 false
+    public boolean insert(Review review) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, review.getId(), review.getEmail(), review.getProductId(), review.getProductName(),
+                    review.getRating(), review.getComment(), Timestamp.valueOf(review.getCreatedAt()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    // 좋아요 - 새로 추가했으면 true, 이미 눌렀거나 리뷰가 없으면 false (한 번의 DB 왕복)
+    public boolean insertLikeIfAbsent(Long reviewId, String email) {
+        try {
+            return jdbcTemplate.update(LIKE_SQL, email, reviewId) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    // 리뷰들의 좋아요 행 수 합계
+    public long countLikes(Collection<Long> reviewIds) {
+        long total = 0;
+        for (List<Long> chunk : Chunks.of(new ArrayList<>(reviewIds), IN_CHUNK_SIZE)) {
+            total += jdbcTemplate.queryForObject(COUNT_LIKES_SQL.formatted(placeholders(chunk.size())), Long.class, chunk.toArray());
+        }
+        return total;
+    }
+
+    // like_count = 리뷰의 좋아요 행 수 - 아직 반영되지 않은 LikeCountBuffer 증감이 있던 리뷰는 반영 후 그만큼 어긋나고 LikeCountVerifier 가 바로잡는다
+    public void recountLikes(Collection<Long> reviewIds) {
+        for (List<Long> chunk : Chunks.of(new ArrayList<>(reviewIds), IN_CHUNK_SIZE)) {
+            jdbcTemplate.update(RECOUNT_LIKES_SQL.formatted(placeholders(chunk.size())), chunk.toArray());
+        }
+    }
+
+    private static String placeholders(int size) {
+        return String.join(",", Collections.nCopies(size, "?"));
+    }
+
+    // 수정 - 주어진 값(null 이 아닌 것)만 SET, 리뷰가 없거나 작성자가 아니면 empty
+    public Optional<UpdatedReview> updateOwned(Long reviewId, String email, String comment, Integer rating) {
+        List<String> columns = new ArrayList<>(3);
+        List<Object> args = new ArrayList<>(5);
+        if (comment != null) {
+            columns.add("comment = ?");
+            args.add(comment);
+        }
+        if (rating != null) {
+            columns.add("rating = ?");
+            args.add(rating);
+        }
+        columns.add("updated_at = ?");
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.add(reviewId);
+        args.add(email);
+        String update = "UPDATE review SET " + String.join(", ", columns) + " WHERE id = ? AND email = ?";
+
+        return jdbcTemplate.execute((ConnectionCallback<Optional<UpdatedReview>>) connection -> {
+            UpdatedReview previous;
+            try (PreparedStatement lock = connection.prepareStatement(LOCK_SQL)) {
+                lock.setLong(1, reviewId);
+                lock.setString(2, email);
+                try (ResultSet rs = lock.executeQuery()) {
+                    if (!rs.next()) {
+                        return Optional.empty();
+                    }
+                    previous = new UpdatedReview(rs.getLong(2), rs.getString(3), rs.getInt(1));
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(update)) {
+                for (int i = 0; i < args.size(); i++) {
+                    statement.setObject(i + 1, args.get(i));
+                }
+                return statement.executeUpdate() == 0 ? Optional.empty() : Optional.of(previous);
+            }
+        });
+    }
+
+    // 수정 전 평점과 (바뀌지 않는) 상품 정보
+    public record UpdatedReview(Long productId, String productName, int oldRating) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.inkcloud.review_service.repository;
+
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 현재 스레드가 사용할 리뷰 저장소 샤드 - 라우팅 DataSource 가 커넥션을 얻는 시점(첫 쿼리)에 읽는다
+// 바인딩하지 않으면 0번 샤드 (샤딩을 쓰지 않는 단일 DB 구성)
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard == null ? 0 : shard;
+    }
+
+    // 진행 중인 트랜잭션을 샤드에 고정하고 트랜잭션 종료시 해제
+    // 한 트랜잭션 안에서 다른 샤드로 바꾸려 하면 IllegalStateException (샤드 간 트랜잭션은 지원하지 않음)
+    public static void bind(int shard) {
+        Integer bound = CURRENT.get();
+        if (bound != null) {
+            if (bound != shard) {
+                throw new IllegalStateException("한 트랜잭션에서 여러 샤드를 사용할 수 없습니다: " + bound + " -> " + shard);
+            }
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("트랜잭션 밖에서는 ShardContext.call 로 샤드를 지정해야 합니다.");
+        }
+        CURRENT.set(shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                CURRENT.remove();
+            }
+        });
+    }
+
+    // 주어진 샤드에서 작업 실행 - 작업 안에서 시작한 트랜잭션/쿼리가 모두 이 샤드로 간다
+    public static <T> T call(int shard, Supplier<T> work) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void run(int shard, Runnable work) {
+        call(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+}
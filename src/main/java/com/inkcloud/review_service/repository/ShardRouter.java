@@ -0,0 +1,10 @@
+package com.inkcloud.review_service.repository;
+
+// 상품 ID → 리뷰 저장소 샤드 (리뷰와 그 좋아요/신고, 상품 평점 집계, 아웃박스 이벤트가 같은 샤드에 저장된다)
+// 다른 분배 방식이 필요하면 이 타입의 빈을 직접 등록하면 된다.
+public interface ShardRouter {
+
+    int shardCount();
+
+    int shardForProduct(Long productId);
+}
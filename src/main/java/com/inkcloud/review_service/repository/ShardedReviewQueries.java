@@ -0,0 +1,122 @@
+package com.inkcloud.review_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import com.inkcloud.review_service.domain.ReportType;
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.dto.ReviewReportDto;
+
+import lombok.RequiredArgsConstructor;
+
+// 상품 ID 로 샤드를 정할 수 없는 조회 (회원별, 관리자 검색) - 모든 샤드에 병렬로 보낸 뒤 최신순으로 병합
+// 페이지 조회는 샤드마다 (offset + size) 건까지 받아 병합한 뒤 전역 offset 을 적용하므로, 깊은 페이지일수록 비싸다.
+// 샤드가 하나면 기존 저장소 조회를 그대로 호출한다.
+@Component
+@RequiredArgsConstructor
+public class ShardedReviewQueries {
+
+    private static final Comparator<ReviewDto> NEWEST_REVIEW_FIRST = Comparator
+            .comparing(ReviewDto::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(ReviewDto::getId, Comparator.reverseOrder());
+
+    private static final Comparator<ReviewReportDto> NEWEST_REPORT_FIRST = Comparator
+            .comparing(ReviewReportDto::getReportedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(ReviewReportDto::getId, Comparator.reverseOrder());
+
+    private final ReviewShards reviewShards;
+    private final ReviewRepository reviewRepository;
+    private final ReviewReportRepository reviewReportRepository;
+
+    public List<ReviewDto> findDtosByEmailAndCreatedAtBetween(String email, LocalDateTime start, LocalDateTime end) {
+        if (reviewShards.count() == 1) {
+            return reviewRepository.findDtosByEmailAndCreatedAtBetween(email, start, end);
+        }
+        return merge(reviewShards.scatter(shard -> reviewRepository.findDtosByEmailAndCreatedAtBetween(email, start, end)),
+                NEWEST_REVIEW_FIRST);
+    }
+
+    public Page<ReviewDto> searchReviews(
+            String keyword, String startDate, String endDate, Integer minRating, Integer maxRating, Pageable pageable) {
+        if (reviewShards.count() == 1) {
+            return reviewRepository.searchReviews(keyword, startDate, endDate, minRating, maxRating, pageable);
+        }
+        return mergePages(pageable, NEWEST_REVIEW_FIRST,
+                head -> reviewRepository.searchReviews(keyword, startDate, endDate, minRating, maxRating, head));
+    }
+
+    public Slice<ReviewDto> searchReviewsSlice(
+            String keyword, String startDate, String endDate, Integer minRating, Integer maxRating, Pageable pageable) {
+        if (reviewShards.count() == 1) {
+            return reviewRepository.searchReviewsSlice(keyword, startDate, endDate, minRating, maxRating, pageable);
+        }
+        return mergeSlices(pageable, NEWEST_REVIEW_FIRST,
+                head -> reviewRepository.searchReviewsSlice(keyword, startDate, endDate, minRating, maxRating, head));
+    }
+
+    public Page<ReviewReportDto> searchReports(
+            ReportType type, LocalDateTime from, LocalDateTime to, String keyword, Pageable pageable) {
+        if (reviewShards.count() == 1) {
+            return reviewReportRepository.searchReports(type, from, to, keyword, pageable);
+        }
+        return mergePages(pageable, NEWEST_REPORT_FIRST,
+                head -> reviewReportRepository.searchReports(type, from, to, keyword, head));
+    }
+
+    public Slice<ReviewReportDto> searchReportsSlice(
+            ReportType type, LocalDateTime from, LocalDateTime to, String keyword, Pageable pageable) {
+        if (reviewShards.count() == 1) {
+            return reviewReportRepository.searchReportsSlice(type, from, to, keyword, pageable);
+        }
+        return mergeSlices(pageable, NEWEST_REPORT_FIRST,
+                head -> reviewReportRepository.searchReportsSlice(type, from, to, keyword, head));
+    }
+
+    // 전체 건수는 샤드별 count 의 합
+    private <T> Page<T> mergePages(Pageable pageable, Comparator<T> order, Function<Pageable, Page<T>> query) {
+        Pageable head = head(pageable);
+        List<Page<T>> pages = reviewShards.scatter(shard -> query.apply(head));
+        long total = pages.stream().mapToLong(Page::getTotalElements).sum();
+        List<T> merged = merge(pages.stream().map(Page::getContent).toList(), order);
+        return new PageImpl<>(window(merged, pageable), pageable, total);
+    }
+
+    // 어느 샤드든 (offset + size) 건을 넘게 가지고 있거나, 병합 결과가 그보다 많으면 다음 페이지가 있다
+    private <T> Slice<T> mergeSlices(Pageable pageable, Comparator<T> order, Function<Pageable, Slice<T>> query) {
+        Pageable head = head(pageable);
+        List<Slice<T>> slices = reviewShards.scatter(shard -> query.apply(head));
+        List<T> merged = merge(slices.stream().map(Slice::getContent).toList(), order);
+        boolean hasNext = merged.size() > head.getPageSize() || slices.stream().anyMatch(Slice::hasNext);
+        return new SliceImpl<>(window(merged, pageable), pageable, hasNext);
+    }
+
+    // 각 샤드에서 가져올 첫 (offset + size) 건
+    private static Pageable head(Pageable pageable) {
+        return PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()), pageable.getSort());
+    }
+
+    private static <T> List<T> window(List<T> merged, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = Math.min(from + pageable.getPageSize(), merged.size());
+        return merged.subList(from, to);
+    }
+
+    // 샤드별로 이미 정렬된 결과 병합 (List.sort 의 TimSort 가 정렬된 구간을 그대로 병합한다)
+    private static <T> List<T> merge(List<List<T>> perShard, Comparator<T> order) {
+        List<T> merged = new ArrayList<>();
+        perShard.forEach(merged::addAll);
+        merged.sort(order);
+        return merged;
+    }
+}
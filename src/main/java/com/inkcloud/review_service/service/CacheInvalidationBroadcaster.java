@@ -0,0 +1,76 @@
+package com.inkcloud.review_service.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inkcloud.review_service.dto.CacheInvalidationDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 노드별 메모리 캐시의 무효화를 다른 노드에 전파 (캐시마다 토픽/키 타입/로컬 무효화 함수를 달리해 빈으로 등록 - CacheBroadcastConfig)
+// 노드마다 고유한 컨슈머 그룹으로 구독해 모든 노드가 메시지를 받고, 기동 이전 메시지는 읽지 않는다.
+// 전파에 실패하면 다른 노드는 캐시 TTL 이 지날 때까지 이전 값을 볼 수 있다.
+@Slf4j
+public class CacheInvalidationBroadcaster<K> {
+
+    private final String name;
+    private final String topic;
+    private final JavaType payloadType;
+    private final Consumer<Collection<K>> invalidateLocal;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final KafkaSendMetrics kafkaSendMetrics;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationBroadcaster(String name, String topic, Class<K> keyType, Consumer<Collection<K>> invalidateLocal,
+                                        KafkaTemplate<String, Object> kafkaTemplate, ObjectMapper objectMapper,
+                                        KafkaSendMetrics kafkaSendMetrics) {
+        this.name = name;
+        this.topic = topic;
+        this.payloadType = objectMapper.getTypeFactory().constructParametricType(CacheInvalidationDto.class, keyType);
+        this.invalidateLocal = invalidateLocal;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.kafkaSendMetrics = kafkaSendMetrics;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public String getGroupId() {
+        return "review-" + name + "-" + nodeId;
+    }
+
+    public void publish(Collection<K> keys) {
+        CacheInvalidationDto<K> message = new CacheInvalidationDto<>(nodeId, new ArrayList<>(keys));
+        kafkaSendMetrics.record(topic, kafkaTemplate.send(topic, message)).whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.warn("캐시 무효화 전파 실패: cache={}, keys={}", name, keys.size(), ex);
+            }
+        });
+    }
+
+    @KafkaListener(topics = "#{__listener.topic}",
+                   groupId = "#{__listener.groupId}",
+                   properties = "auto.offset.reset=latest")
+    public void onInvalidation(String payload) {
+        try {
+            CacheInvalidationDto<K> message = objectMapper.readValue(payload, payloadType);
+            if (nodeId.equals(message.getOriginNode()) || message.getKeys() == null) {
+                return;
+            }
+            invalidateLocal.accept(message.getKeys());
+        } catch (JsonProcessingException e) {
+            log.warn("캐시 무효화 메시지 파싱 실패: cache={}", name, e);
+        }
+    }
+}
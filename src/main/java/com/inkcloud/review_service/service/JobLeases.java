@@ -0,0 +1,47 @@
+package com.inkcloud.review_service.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inkcloud.review_service.repository.JobLeaseRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// 예약 작업 임대 (현재 샤드의 job_lease 행) - 모든 노드가 같은 일정으로 깨어나도 임대를 얻은 노드만 작업한다
+// 임대는 짧은 트랜잭션으로 얻고 작업 중에는 행 잠금을 잡지 않는다. 긴 작업은 청크마다 다시 호출해 연장하고,
+// 노드가 죽으면 기한이 지난 뒤 다른 노드가 가져간다.
+@Component
+@RequiredArgsConstructor
+public class JobLeases {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    // 임대를 얻거나 연장하면 true
+    public boolean tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(ttl);
+        Boolean acquired = transactionTemplate.execute(status -> jobLeaseRepository.acquire(name, owner, until, now) > 0);
+        if (Boolean.TRUE.equals(acquired)) {
+            return true;
+        }
+        // 처음 실행되는 작업이면 행을 만든다 - 동시에 만들거나 다른 노드가 임대 중이면 키 중복
+        try {
+            transactionTemplate.executeWithoutResult(status -> jobLeaseRepository.create(name, owner, until));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    // 작업을 마치면 바로 다른 노드가 가져갈 수 있게 기한을 지금으로
+    public void release(String name) {
+        transactionTemplate.executeWithoutResult(status -> jobLeaseRepository.release(name, owner, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.inkcloud.review_service.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.RequiredArgsConstructor;
+
+// 카프카 발행 지표 - send 호출부터 브로커 ack 까지의 시간(review.kafka.send)과 실패 수(review.kafka.send.failures), 토픽별
+@Component
+@RequiredArgsConstructor
+public class KafkaSendMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> CompletableFuture<T> record(String topic, CompletableFuture<T> future) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        future.whenComplete((result, ex) -> {
+            sample.stop(Timer.builder("review.kafka.send")
+                    .tag("topic", topic)
+                    .tag("result", ex == null ? "success" : "failure")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            if (ex != null) {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                Counter.builder("review.kafka.send.failures")
+                        .tag("topic", topic)
+                        .tag("exception", cause.getClass().getSimpleName())
+                        .register(meterRegistry)
+                        .increment();
+            }
+        });
+        return future;
+    }
+}
@@ -0,0 +1,243 @@
+package com.inkcloud.review_service.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inkcloud.review_service.repository.ProductReviewVersionRepository;
+import com.inkcloud.review_service.repository.RecentWrites;
+import com.inkcloud.review_service.repository.ReviewShards;
+import com.inkcloud.review_service.repository.ShardContext;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 리뷰 좋아요 수 write-behind 카운터
+// 좋아요/취소 증감을 리뷰별 LongAdder(스트라이프 셀)에 누적하고, 주기적으로
+// UPDATE review SET like_count = like_count + ? 배치로 반영한다. 인기 리뷰에 좋아요가 몰려도
+// review 행 잠금을 요청마다 잡지 않으므로 갱신이 직렬화되거나 유실되지 않는다.
+// 종료 시에는 웹 서버가 멈춘 뒤(더 이상 증감이 들어오지 않을 때) DataSource/Kafka 가 닫히기 전에 남은 증감을 반영한다.
+// 반영 중 노드가 죽어 유실된 증감은 LikeCountVerifier 가 review_like 로 다시 센다.
+@Slf4j
+@Component
+public class LikeCountBuffer implements SmartLifecycle {
+
+    // 웹 서버 종료(WebServerStartStopLifecycle, DEFAULT_PHASE - 1024) 이후에 멈춘다
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    private static final String FLUSH_SQL =
+            "UPDATE review SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+    private static final String TOUCHED_SQL =
+            "SELECT DISTINCT product_id, email FROM review WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductReviewCache productReviewCache;
+    private final ReviewShards reviewShards;
+    private final ProductReviewVersionRepository productReviewVersionRepository;
+    private final RecentWrites recentWrites;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // DB 반영 중인 증감 - 반영이 끝날 때까지 조회 값에 포함
+    private final ConcurrentHashMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+    // 직전 flush 에서 맵에서 제거한 셀 - 제거 직전에 참조를 얻은 스레드의 증감을 다음 flush 에서 한 번 더 회수
+    private List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile boolean running;
+
+    @Value("${review.like-count.flush-batch-size:500}")
+    private int flushBatchSize = 500;
+
+    public LikeCountBuffer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                           ProductReviewCache productReviewCache, ReviewShards reviewShards,
+                           ProductReviewVersionRepository productReviewVersionRepository, RecentWrites recentWrites) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.productReviewCache = productReviewCache;
+        this.reviewShards = reviewShards;
+        this.productReviewVersionRepository = productReviewVersionRepository;
+        this.recentWrites = recentWrites;
+    }
+
+    public void increment(Long reviewId) {
+        add(reviewId, 1);
+    }
+
+    public void decrement(Long reviewId) {
+        add(reviewId, -1);
+    }
+
+    public void add(Long reviewId, long delta) {
+        LongAdder adder = pending.get(reviewId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(reviewId, id -> new LongAdder());
+        }
+        adder.add(delta);
+    }
+
+    // 아직 DB 에 반영되지 않은 증감
+    public long pendingDelta(Long reviewId) {
+        LongAdder adder = pending.get(reviewId);
+        long delta = adder == null ? 0 : adder.sum();
+        Long flushing = inFlight.get(reviewId);
+        return flushing == null ? delta : delta + flushing;
+    }
+
+    // 조회용 좋아요 수 = DB 값 + 미반영 증감
+    public int withPending(Long reviewId, int persistedLikeCount) {
+        return (int) Math.max(0, persistedLikeCount + pendingDelta(reviewId));
+    }
+
+    @Scheduled(fixedDelayString = "${review.like-count.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        flushLocked();
+    }
+
+    // 진행 중인 flush 가 있으면 끝날 때까지 기다렸다가 남은 증감까지 반영 (종료/검증용)
+    public void flushNow() {
+        flushLock.lock();
+        flushLocked();
+    }
+
+    private void flushLocked() {
+        try {
+            Map<Long, Long> deltas = drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            // 리뷰가 저장된 샤드별로 나누어 반영 (샤드마다 별도 트랜잭션)
+            Set<Long> flushed = new HashSet<>();
+            Set<Long> productIds = new HashSet<>();
+            Set<String> authors = new HashSet<>();
+            reviewShards.groupReviewIds(deltas.keySet()).forEach((shard, reviewIds) -> {
+                Map<Long, Long> group = new HashMap<>();
+                reviewIds.forEach(reviewId -> group.put(reviewId, deltas.get(reviewId)));
+                try {
+                    Touched touched = ShardContext.call(shard, () -> write(group));
+                    productIds.addAll(touched.productIds());
+                    authors.addAll(touched.authors());
+                    flushed.addAll(reviewIds);
+                } catch (Exception e) {
+                    log.error("좋아요 수 반영 실패, 다음 주기에 재시도: shard={}, reviews={}", shard, group.size(), e);
+                    group.forEach(this::add);
+                    group.keySet().forEach(inFlight::remove);
+                }
+            });
+            try {
+                // DB 좋아요 수가 바뀐 상품의 리뷰 목록 캐시 무효화 - inFlight 제거 후 캐시된 이전 DB 값으로 좋아요 수가 줄어 보이지 않도록 먼저 수행
+                // (상품 키 고정도 함께 - 캐시를 거치지 않는 커서 조회도 복제본의 이전 값 대신 primary 를 읽는다)
+                productReviewCache.invalidate(productIds);
+                // 캐시를 거치지 않는 상세/작성자별 조회도 같은 이유로 복제 지연 동안 primary 로
+                flushed.forEach(reviewId -> recentWrites.mark(RecentWrites.reviewKey(reviewId)));
+                authors.forEach(email -> recentWrites.mark(RecentWrites.authorKey(email)));
+            } finally {
+                flushed.forEach(inFlight::remove);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        flushNow();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    // stop() 이후에 들어온 증감 (Lifecycle 없이 닫히는 경우 포함)
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushNow();
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+
+        for (Map.Entry<Long, LongAdder> entry : retired) {
+            collect(deltas, entry.getKey(), entry.getValue().sumThenReset());
+        }
+        List<Map.Entry<Long, LongAdder>> nextRetired = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                collect(deltas, entry.getKey(), delta);
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                // 한 주기 동안 변화가 없던 리뷰는 맵에서 제거해 메모리를 회수
+                nextRetired.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        retired = nextRetired;
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+
+    private void collect(Map<Long, Long> deltas, Long reviewId, long delta) {
+        if (delta != 0) {
+            deltas.merge(reviewId, delta, Long::sum);
+            inFlight.merge(reviewId, delta, Long::sum);
+        }
+    }
+
+    private Touched write(Map<Long, Long> deltas) {
+        List<Long> reviewIds = new ArrayList<>(deltas.keySet());
+        List<Object[]> args = new ArrayList<>(reviewIds.size());
+        reviewIds.forEach(reviewId -> args.add(new Object[] { deltas.get(reviewId), reviewId }));
+
+        Touched touched = transactionTemplate.execute(status -> {
+            Touched rows = new Touched(new HashSet<>(), new HashSet<>());
+            for (int from = 0; from < args.size(); from += flushBatchSize) {
+                int to = Math.min(from + flushBatchSize, args.size());
+                jdbcTemplate.batchUpdate(FLUSH_SQL, args.subList(from, to));
+
+                List<Long> chunk = reviewIds.subList(from, to);
+                String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                jdbcTemplate.query(TOUCHED_SQL.formatted(placeholders), rs -> {
+                    rows.productIds().add(rs.getLong(1));
+                    rows.authors().add(rs.getString(2));
+                }, chunk.toArray());
+            }
+            // 좋아요 수가 바뀐 상품의 목록 버전(ETag) 증가
+            productReviewVersionRepository.bumpAll(rows.productIds());
+            return rows;
+        });
+        log.debug("좋아요 수 반영: reviews={}, products={}", deltas.size(), touched.productIds().size());
+        return touched;
+    }
+
+    // 좋아요 수가 바뀐 리뷰의 상품과 작성자
+    private record Touched(Set<Long> productIds, Set<String> authors) {
+    }
+}
@@ -0,0 +1,180 @@
+package com.inkcloud.review_service.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inkcloud.review_service.repository.ProductReviewVersionRepository;
+import com.inkcloud.review_service.repository.ReviewShards;
+import com.inkcloud.review_service.repository.ReviewWriteQueries;
+import com.inkcloud.review_service.util.Chunks;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 리뷰 좋아요 수 검증 작업 - review.like_count 를 review_like 행 수와 리뷰 ID 청크 단위로 비교해 불일치(drift)를 찾는다
+// (LikeCountBuffer 의 미반영 증감이 노드 종료/장애로 유실된 경우). 다른 노드 버퍼에 아직 반영되지 않은 증감과 구분하기 위해
+// 불일치는 confirm-delay 뒤 같은 차이로 한 번 더 확인된 리뷰만 COUNT(review_like) 로 다시 센다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountVerifier {
+
+    private static final String LEASE_NAME = "like-count-verify";
+    private static final String ID_CHUNK_SQL = "SELECT id FROM review WHERE id > ? ORDER BY id LIMIT ?";
+    // 리뷰별 (review_like 행 수 - like_count)
+    private static final String DRIFT_SQL = "SELECT r.id, COUNT(l.review_id) - r.like_count FROM review r "
+            + "LEFT JOIN review_like l ON l.review_id = r.id WHERE %s "
+            + "GROUP BY r.id, r.like_count HAVING COUNT(l.review_id) <> r.like_count";
+    private static final String PRODUCT_IDS_SQL = "SELECT DISTINCT product_id FROM review WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReviewShards reviewShards;
+    private final JobLeases jobLeases;
+    private final LikeCountBuffer likeCountBuffer;
+    private final ProductReviewCache productReviewCache;
+    private final ProductReviewVersionRepository productReviewVersionRepository;
+    private final ReviewWriteQueries reviewWriteQueries;
+
+    @Value("${review.like-count.verify.enabled:true}")
+    private boolean enabled;
+
+    @Value("${review.like-count.verify.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${review.like-count.verify.repair:true}")
+    private boolean repair;
+
+    // 모든 노드의 flush 주기(review.like-count.flush-interval-ms)보다 넉넉히
+    @Value("${review.like-count.verify.confirm-delay-ms:10000}")
+    private long confirmDelayMillis;
+
+    @Value("${review.like-count.verify.lease-ms:300000}")
+    private long leaseMillis;
+
+    @Scheduled(cron = "${review.like-count.verify.cron:0 45 4 * * *}")
+    public void verify() {
+        if (!enabled) {
+            return;
+        }
+        // 리뷰와 좋아요는 같은 샤드에 있으므로 샤드마다 따로 검증
+        reviewShards.forEachShard(this::verifyShard);
+    }
+
+    private void verifyShard(int shard) {
+        Duration lease = Duration.ofMillis(leaseMillis);
+        if (!jobLeases.tryAcquire(LEASE_NAME, lease)) {
+            log.debug("좋아요 수 검증 건너뜀 - 다른 노드가 실행 중: shard={}", shard);
+            return;
+        }
+        try {
+            verifyLeased(shard, lease);
+        } finally {
+            jobLeases.release(LEASE_NAME);
+        }
+    }
+
+    private void verifyLeased(int shard, Duration lease) {
+        long startedAt = System.currentTimeMillis();
+        likeCountBuffer.flushNow();
+
+        // 1차 - 전체 리뷰를 ID 청크로 훑어 불일치 후보 수집 (쓰기 트랜잭션이라 primary 에서 읽는다)
+        Map<Long, Long> suspects = new HashMap<>();
+        long after = 0L;
+        int reviews = 0;
+        while (true) {
+            long from = after;
+            List<Long> reviewIds = transactionTemplate.execute(status ->
+                    jdbcTemplate.queryForList(ID_CHUNK_SQL, Long.class, from, chunkSize));
+            if (reviewIds.isEmpty()) {
+                break;
+            }
+            Long last = reviewIds.get(reviewIds.size() - 1);
+            suspects.putAll(transactionTemplate.execute(status ->
+                    findDrift("r.id BETWEEN ? AND ?", List.of(from + 1, last))));
+            reviews += reviewIds.size();
+            after = last;
+            if (!jobLeases.tryAcquire(LEASE_NAME, lease)) {
+                log.info("좋아요 수 검증 중단: shard={}, reviews={}", shard, reviews);
+                return;
+            }
+        }
+        if (suspects.isEmpty()) {
+            log.info("좋아요 수 검증 완료: shard={}, reviews={}, drifted=0, elapsed={}ms",
+                    shard, reviews, System.currentTimeMillis() - startedAt);
+            return;
+        }
+
+        // 2차 - 다른 노드의 미반영 증감이 반영될 시간을 두고 같은 차이가 남아 있는 리뷰만 확정
+        if (!sleep(confirmDelayMillis) || !jobLeases.tryAcquire(LEASE_NAME, lease)) {
+            return;
+        }
+        likeCountBuffer.flushNow();
+        List<Long> drifted = new ArrayList<>();
+        for (List<Long> chunk : Chunks.of(new ArrayList<>(suspects.keySet()), chunkSize)) {
+            Map<Long, Long> current = transactionTemplate.execute(status ->
+                    findDrift("r.id IN (" + placeholders(chunk.size()) + ")", chunk));
+            current.forEach((reviewId, drift) -> {
+                if (drift.equals(suspects.get(reviewId))) {
+                    drifted.add(reviewId);
+                }
+            });
+        }
+        drifted.forEach(reviewId -> log.warn("좋아요 수 불일치: reviewId={}, drift={}", reviewId, suspects.get(reviewId)));
+
+        if (repair && !drifted.isEmpty()) {
+            repair(drifted);
+        }
+        log.info("좋아요 수 검증 완료: shard={}, reviews={}, drifted={}, repair={}, elapsed={}ms",
+                shard, reviews, drifted.size(), repair, System.currentTimeMillis() - startedAt);
+    }
+
+    private Map<Long, Long> findDrift(String where, List<Long> args) {
+        Map<Long, Long> drift = new HashMap<>();
+        jdbcTemplate.query(DRIFT_SQL.formatted(where), rs -> {
+            drift.put(rs.getLong(1), rs.getLong(2));
+        }, args.toArray());
+        return drift;
+    }
+
+    // review_like 로 다시 세고 상품 목록 버전/캐시 갱신
+    private void repair(List<Long> reviewIds) {
+        Set<Long> productIds = new HashSet<>();
+        for (List<Long> chunk : Chunks.of(reviewIds, chunkSize)) {
+            String placeholders = placeholders(chunk.size());
+            productIds.addAll(transactionTemplate.execute(status -> {
+                reviewWriteQueries.recountLikes(chunk);
+                List<Long> touched = jdbcTemplate.queryForList(PRODUCT_IDS_SQL.formatted(placeholders), Long.class, chunk.toArray());
+                productReviewVersionRepository.bumpAll(touched);
+                return touched;
+            }));
+        }
+        productReviewCache.invalidate(productIds);
+    }
+
+    private static String placeholders(int size) {
+        return String.join(",", Collections.nCopies(size, "?"));
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.inkcloud.review_service.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inkcloud.review_service.util.LongHashSet;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 사용자별 "이 상품에서 좋아요한 리뷰 ID" 캐시 (Caffeine W-TinyLFU, 짧은 TTL)
+// 키에 사용자별 버전 스탬프를 포함해, 좋아요/취소 커밋 후 스탬프를 올리면 그 사용자의 이전 항목은 더 이상 조회되지 않는다.
+// 조회 도중 스탬프가 올라가도 옛 버전 키로 저장되므로 안전하다. 옛 항목은 TTL/크기 상한으로 빠진다.
+// 조회는 캐시 밖 호출 스레드에서 한다 - 같은 키를 동시에 처음 조회하면 중복 조회될 수 있지만 맵 잠금 안에서 DB 조회가 돌지 않는다.
+@Component
+public class LikeStateCache {
+
+    private static final int STAMP_SLOTS = 4096;
+
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_SLOTS);
+    private final Cache<Key, LongHashSet> cache;
+    private final ObjectProvider<CacheInvalidationBroadcaster<String>> broadcaster;
+
+    public LikeStateCache(MeterRegistry meterRegistry,
+                          ObjectProvider<CacheInvalidationBroadcaster<String>> broadcaster,
+                          @Value("${review.like-state-cache.max-entries:100000}") long maxEntries,
+                          @Value("${review.like-state-cache.ttl-ms:10000}") long ttlMillis) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        this.broadcaster = broadcaster;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "like-state");
+    }
+
+    public LongHashSet get(String email, Long productId, Supplier<LongHashSet> loader) {
+        Key key = new Key(email, productId, stamps.get(slot(email)));
+        LongHashSet cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        LongHashSet loaded = loader.get();
+        cache.put(key, loaded);
+        return loaded;
+    }
+
+    // 좋아요/취소 커밋 후 호출 - 로컬 스탬프를 올리고, 설정된 경우 다른 노드에도 전파
+    public void invalidate(String email) {
+        invalidate(List.of(email));
+    }
+
+    public void invalidate(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        invalidateLocal(emails);
+        broadcaster.ifAvailable(b -> b.publish(emails));
+    }
+
+    // 다른 노드에서 받은 무효화 반영
+    public void invalidateLocal(Collection<String> emails) {
+        for (String email : emails) {
+            stamps.incrementAndGet(slot(email));
+        }
+    }
+
+    private static int slot(String email) {
+        return (email.hashCode() & 0x7fffffff) % STAMP_SLOTS;
+    }
+
+    private record Key(String email, Long productId, long stamp) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.inkcloud.review_service.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.stereotype.Component;
+
+import com.inkcloud.review_service.domain.OutboxEvent;
+import com.inkcloud.review_service.repository.ShardContext;
+
+import jakarta.annotation.PreDestroy;
+
+// 아웃박스 릴레이 전용 프로듀서 - 이미 JSON 으로 저장된 페이로드를 그대로 보내고, JsonSerializer 와 같은 __TypeId__ 헤더를 붙인다.
+// 기본 KafkaTemplate 빈을 대체하지 않도록 빈으로 등록하지 않고 내부에서 생성한다.
+@Component
+public class OutboxPublisher {
+
+    public static final String EVENT_ID_HEADER = "review-event-id"; // 컨슈머 중복 제거용 아웃박스 ID
+
+    private final DefaultKafkaProducerFactory<String, String> producerFactory;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaSendMetrics kafkaSendMetrics;
+
+    public OutboxPublisher(KafkaProperties kafkaProperties,
+                           KafkaSendMetrics kafkaSendMetrics,
+                           @Value("${review.outbox.linger-ms:20}") int lingerMs,
+                           @Value("${review.outbox.compression-type:lz4}") String compressionType,
+                           @Value("${review.outbox.batch-size-bytes:65536}") int batchSizeBytes) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSizeBytes);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+        this.producerFactory = new DefaultKafkaProducerFactory<>(props);
+        this.kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        this.kafkaSendMetrics = kafkaSendMetrics;
+    }
+
+    public CompletableFuture<SendResult<String, String>> send(OutboxEvent event) {
+        ProducerRecord<String, String> record =
+                new ProducerRecord<>(event.getTopic(), event.getMessageKey(), event.getPayload());
+        record.headers().add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                event.getPayloadType().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(EVENT_ID_HEADER, eventId(event).getBytes(StandardCharsets.UTF_8));
+        return kafkaSendMetrics.record(event.getTopic(), kafkaTemplate.send(record));
+    }
+
+    // 아웃박스 ID 는 샤드마다 따로 증가하므로 0번이 아닌 샤드는 샤드 번호를 붙여 구분 (단일 샤드는 기존과 같은 형식)
+    private static String eventId(OutboxEvent event) {
+        int shard = ShardContext.current();
+        return shard == 0 ? String.valueOf(event.getId()) : shard + "-" + event.getId();
+    }
+
+    @PreDestroy
+    public void close() {
+        producerFactory.destroy();
+    }
+}
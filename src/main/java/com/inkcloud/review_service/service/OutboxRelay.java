@@ -0,0 +1,51 @@
+package com.inkcloud.review_service.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.inkcloud.review_service.repository.ReviewShards;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 아웃박스 릴레이 - 주기적으로 미발행 이벤트를 배치 단위로 카프카에 발행 (요청 스레드와 분리)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxService outboxService;
+    private final ReviewShards reviewShards;
+
+    @Value("${review.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${review.outbox.retention-days:3}")
+    private int retentionDays;
+
+    // 가득 찬 배치가 나오면 밀린 이벤트가 있다는 뜻이므로 바로 다음 배치를 처리 (아웃박스는 샤드마다 있음)
+    @Scheduled(fixedDelayString = "${review.outbox.relay-interval-ms:500}")
+    public void relay() {
+        reviewShards.forEachShard(shard -> {
+            try {
+                int relayed;
+                do {
+                    relayed = outboxService.relayBatch(batchSize);
+                } while (relayed == batchSize);
+            } catch (Exception e) {
+                log.error("아웃박스 릴레이 중 예외 발생: shard={}", shard, e);
+            }
+        });
+    }
+
+    @Scheduled(cron = "${review.outbox.purge-cron:0 0 3 * * *}")
+    public void purge() {
+        reviewShards.forEachShard(shard -> {
+            int deleted = outboxService.purgeSent(LocalDateTime.now().minusDays(retentionDays));
+            log.info("발행 완료 아웃박스 이벤트 정리: shard={}, deleted={}", shard, deleted);
+        });
+    }
+}
@@ -0,0 +1,20 @@
+package com.inkcloud.review_service.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+public interface OutboxService {
+
+    // 호출 트랜잭션 안에서 아웃박스에 이벤트 저장 (커밋되어야만 발행된다)
+    void append(String topic, String key, Object payload);
+
+    // 여러 이벤트를 한 번에 저장
+    <T> void appendAll(String topic, List<T> payloads, Function<T, String> keyExtractor);
+
+    // 미발행 이벤트를 최대 batchSize 건 발행하고 발행 완료 표시, 발행에 성공한 건수 반환
+    int relayBatch(int batchSize);
+
+    // 발행 완료 후 보관 기간이 지난 이벤트 삭제
+    int purgeSent(LocalDateTime before);
+}
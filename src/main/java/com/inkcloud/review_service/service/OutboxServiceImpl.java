@@ -0,0 +1,138 @@
+package com.inkcloud.review_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inkcloud.review_service.domain.OutboxEvent;
+import com.inkcloud.review_service.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class OutboxServiceImpl implements OutboxService {
+
+    private static final String INSERT_SQL = "INSERT INTO review_outbox "
+            + "(topic, message_key, payload_type, payload, attempts, created_at) VALUES (?, ?, ?, ?, 0, ?)";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${review.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    // 발행 중 임대 기간 - 발행 대기 시간보다 길어야 한다 (릴레이가 죽으면 이 시간 뒤 다른 릴레이가 다시 보낸다)
+    @Value("${review.outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    @Override
+    public void append(String topic, String key, Object payload) {
+        outboxEventRepository.save(toOutboxEvent(topic, key, payload));
+    }
+
+    // IDENTITY 키라 JPA saveAll 은 건마다 INSERT 하므로, 같은 트랜잭션 커넥션으로 JDBC 배치 INSERT
+    @Override
+    public <T> void appendAll(String topic, List<T> payloads, Function<T, String> keyExtractor) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(payloads.size());
+        for (T payload : payloads) {
+            OutboxEvent event = toOutboxEvent(topic, keyExtractor.apply(payload), payload);
+            rows.add(new Object[] { event.getTopic(), event.getMessageKey(), event.getPayloadType(), event.getPayload(), now });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    // 짧은 트랜잭션으로 배치를 임대해 가져오고(행 잠금은 바로 풀림), 트랜잭션/커넥션 없이 보내고 ack 를 기다린 뒤
+    // 다시 짧은 트랜잭션으로 발행 완료 표시 - 실패한 건은 임대를 풀어 다음 주기에 재시도 (at-least-once, 컨슈머는 이벤트 ID 로 중복 제거)
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int relayBatch(int batchSize) {
+        List<OutboxEvent> pending = transactionTemplate.execute(status -> claim(batchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<?>> futures = new ArrayList<>(pending.size());
+        for (OutboxEvent event : pending) {
+            futures.add(outboxPublisher.send(event));
+        }
+
+        List<Long> sentIds = new ArrayList<>(pending.size());
+        List<Long> failedIds = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            Long id = pending.get(i).getId();
+            try {
+                futures.get(i).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                sentIds.add(id);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedIds.add(id);
+            } catch (Exception e) {
+                log.warn("아웃박스 이벤트 발행 실패: id={}, topic={}, error={}", id, pending.get(i).getTopic(), e.getMessage());
+                failedIds.add(id);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                outboxEventRepository.markSent(sentIds, LocalDateTime.now());
+            }
+            if (!failedIds.isEmpty()) {
+                outboxEventRepository.releaseFailed(failedIds);
+            }
+        });
+        log.debug("아웃박스 릴레이: sent={}, failed={}", sentIds.size(), failedIds.size());
+        return sentIds.size();
+    }
+
+    private List<OutboxEvent> claim(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> claimed = outboxEventRepository.findClaimableForUpdate(now, PageRequest.of(0, batchSize));
+        if (!claimed.isEmpty()) {
+            outboxEventRepository.lease(claimed.stream().map(OutboxEvent::getId).toList(), now.plusNanos(leaseMs * 1_000_000));
+        }
+        return claimed;
+    }
+
+    @Override
+    public int purgeSent(LocalDateTime before) {
+        return outboxEventRepository.deleteSentBefore(before);
+    }
+
+    private OutboxEvent toOutboxEvent(String topic, String key, Object payload) {
+        try {
+            return OutboxEvent.builder()
+                    .topic(topic)
+                    .messageKey(key)
+                    .payloadType(payload.getClass().getName())
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패: " + payload, e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.inkcloud.review_service.service;
+
+import java.util.List;
+
+import com.inkcloud.review_service.dto.RatingSummaryDto;
+import com.inkcloud.review_service.dto.ReviewEventDto;
+
+public interface ProductRatingSummaryService {
+
+    // 리뷰 작성/수정/삭제 이벤트의 평점 증감을 집계에 반영 (호출 트랜잭션에 참여)
+    void applyEvent(ReviewEventDto event);
+
+    // 여러 이벤트를 상품별로 합쳐 반영
+    void applyEvents(List<ReviewEventDto> events);
+
+    // 상품 평점 집계 조회
+    RatingSummaryDto getSummary(Long productId);
+
+    // 검증 작업 - after 보다 큰 상품 ID size 개
+    List<Long> findProductIdChunk(Long after, int size);
+
+    // 검증 작업 - 상품 ID 구간의 집계를 review 테이블과 비교, 어긋난 상품 수 반환 (repair 면 재계산 값으로 덮어씀)
+    int verifyRange(Long fromId, Long toId, boolean repair);
+
+    // 스냅숏 작업 - 상품 ID 구간을 review 테이블에서 집계해 마지막 발행 이후 바뀐 상품만 스냅숏 이벤트로 아웃박스에 저장, 저장한 수 반환
+    int snapshotRange(Long fromId, Long toId);
+}
@@ -0,0 +1,243 @@
+package com.inkcloud.review_service.service;
+
+import com.inkcloud.review_service.domain.ProductRatingSummary;
+import com.inkcloud.review_service.domain.RatingSnapshotState;
+import com.inkcloud.review_service.dto.RatingSnapshotEventDto;
+import com.inkcloud.review_service.dto.RatingSummaryDto;
+import com.inkcloud.review_service.dto.ReviewEventDto;
+import com.inkcloud.review_service.repository.ProductRatingSummaryRepository;
+import com.inkcloud.review_service.repository.RatingCountView;
+import com.inkcloud.review_service.repository.RatingSnapshotStateRepository;
+import com.inkcloud.review_service.repository.ReviewRepository;
+import com.inkcloud.review_service.repository.ReviewShards;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProductRatingSummaryServiceImpl implements ProductRatingSummaryService {
+
+    private final ProductRatingSummaryRepository summaryRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewShards reviewShards;
+    private final RatingSnapshotStateRepository snapshotStateRepository;
+    private final OutboxService outboxService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${review.rating-snapshot.topic:review-rating-snapshot}")
+    private String snapshotTopic;
+
+    @Override
+    public void applyEvent(ReviewEventDto event) {
+        applyEvents(List.of(event));
+    }
+
+    @Override
+    public void applyEvents(List<ReviewEventDto> events) {
+        Map<Long, Delta> deltas = new LinkedHashMap<>();
+        for (ReviewEventDto event : events) {
+            Delta delta = deltas.computeIfAbsent(event.getProductId(), id -> new Delta());
+            switch (event.getType()) {
+                case "created" -> delta.add(event.getRating(), 1);
+                case "updated" -> {
+                    delta.add(event.getOldRating(), -1);
+                    delta.add(event.getRating(), 1);
+                }
+                case "deleted" -> delta.add(event.getOldRating(), -1);
+                default -> log.warn("알 수 없는 평점 이벤트 타입: {}", event);
+            }
+        }
+        deltas.forEach((productId, d) -> {
+            if (!d.isZero()) {
+                summaryRepository.applyDelta(productId, d.count, d.sum,
+                        d.stars[0], d.stars[1], d.stars[2], d.stars[3], d.stars[4]);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RatingSummaryDto getSummary(Long productId) {
+        reviewShards.bindProduct(productId);
+        ProductRatingSummary summary = summaryRepository.findById(productId)
+                .orElseGet(() -> ProductRatingSummary.builder().productId(productId).build());
+
+        long[] stars = summary.histogram();
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < stars.length; i++) {
+            histogram.put(i + 1, stars[i]);
+        }
+        double average = summary.getReviewCount() == 0 ? 0.0
+                : Math.round(summary.getRatingSum() * 100.0 / summary.getReviewCount()) / 100.0;
+
+        return RatingSummaryDto.builder()
+                .productId(productId)
+                .reviewCount(summary.getReviewCount())
+                .ratingSum(summary.getRatingSum())
+                .averageRating(average)
+                .histogram(histogram)
+                .build();
+    }
+
+    // 읽기 전용으로 두면 복제본으로 가는데, 이어지는 verifyRange/snapshotRange 는 primary 에서 돌아
+    // 복제가 뒤처진 만큼 새 상품이 구간에서 빠진다 - 같은 primary 에서 읽도록 쓰기 트랜잭션(클래스 기본값)으로 둔다
+    @Override
+    public List<Long> findProductIdChunk(Long after, int size) {
+        return reviewRepository.findProductIdsAfter(after, PageRequest.of(0, size));
+    }
+
+    @Override
+    public int verifyRange(Long fromId, Long toId, boolean repair) {
+        // 집계 행을 먼저 잠근 뒤 review 를 집계해야 그 사이 커밋된 증분이 누락/중복되지 않는다
+        Map<Long, ProductRatingSummary> stored = new HashMap<>();
+        for (ProductRatingSummary summary : summaryRepository.findAllForUpdate(fromId, toId)) {
+            stored.put(summary.getProductId(), summary);
+        }
+
+        Map<Long, Delta> actual = new HashMap<>();
+        for (RatingCountView row : reviewRepository.countRatingsByProductIdBetween(fromId, toId)) {
+            actual.computeIfAbsent(row.getProductId(), id -> new Delta()).add(row.getRating(), row.getCnt());
+        }
+
+        int drifted = 0;
+        for (Map.Entry<Long, Delta> entry : actual.entrySet()) {
+            ProductRatingSummary summary = stored.remove(entry.getKey());
+            if (!entry.getValue().matches(summary)) {
+                drifted++;
+                log.warn("평점 집계 불일치: productId={}, stored={}, actual={}", entry.getKey(),
+                        summary == null ? null : Arrays.toString(summary.histogram()), entry.getValue());
+                if (repair) {
+                    summaryRepository.save(entry.getValue().toEntity(entry.getKey()));
+                }
+            }
+        }
+        // 리뷰가 모두 삭제된 상품은 0 이어야 한다
+        for (ProductRatingSummary summary : stored.values()) {
+            if (!new Delta().matches(summary)) {
+                drifted++;
+                log.warn("평점 집계 불일치(리뷰 없음): productId={}, stored={}", summary.getProductId(),
+                        Arrays.toString(summary.histogram()));
+                if (repair) {
+                    summaryRepository.save(new Delta().toEntity(summary.getProductId()));
+                }
+            }
+        }
+        return drifted;
+    }
+
+    @Override
+    public int snapshotRange(Long fromId, Long toId) {
+        Map<Long, Delta> actual = new HashMap<>();
+        for (RatingCountView row : reviewRepository.countRatingsByProductIdBetween(fromId, toId)) {
+            actual.computeIfAbsent(row.getProductId(), id -> new Delta()).add(row.getRating(), row.getCnt());
+        }
+        Map<Long, Long> published = new HashMap<>();
+        for (RatingSnapshotState state : snapshotStateRepository.findAllInRange(fromId, toId)) {
+            published.put(state.getProductId(), state.getFingerprint());
+        }
+        // 리뷰가 모두 삭제된 상품은 0 스냅숏을 한 번 보낸다
+        published.keySet().forEach(productId -> actual.putIfAbsent(productId, new Delta()));
+
+        long now = System.currentTimeMillis();
+        List<RatingSnapshotEventDto> snapshots = new ArrayList<>();
+        List<Object[]> states = new ArrayList<>();
+        Timestamp publishedAt = new Timestamp(now);
+        for (Map.Entry<Long, Delta> entry : actual.entrySet()) {
+            Delta delta = entry.getValue();
+            long fingerprint = delta.fingerprint();
+            Long previous = published.get(entry.getKey());
+            if (previous != null && previous == fingerprint) {
+                continue;
+            }
+            snapshots.add(new RatingSnapshotEventDto(entry.getKey(), delta.count, delta.sum, delta.stars.clone(), now));
+            states.add(new Object[] { entry.getKey(), fingerprint, publishedAt });
+        }
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+        // 지문은 아웃박스 저장과 같은 트랜잭션에서 갱신 - 커밋되면 릴레이가 반드시 발행한다
+        outboxService.appendAll(snapshotTopic, snapshots, snapshot -> String.valueOf(snapshot.getProductId()));
+        jdbcTemplate.batchUpdate(RatingSnapshotStateRepository.UPSERT_SQL, states);
+        return snapshots.size();
+    }
+
+    // 상품 하나의 평점 집계 증감
+    private static final class Delta {
+        private long count;
+        private long sum;
+        private final long[] stars = new long[5];
+
+        void add(Integer rating, long n) {
+            if (rating == null) {
+                return;
+            }
+            count += n;
+            sum += rating * n;
+            if (rating >= 1 && rating <= 5) {
+                stars[rating - 1] += n;
+            }
+        }
+
+        long fingerprint() {
+            long hash = count;
+            hash = hash * 1_000_003L + sum;
+            for (long star : stars) {
+                hash = hash * 1_000_003L + star;
+            }
+            // 인접한 값이 비슷한 해시가 되지 않도록 섞는다 (splitmix64 마무리 단계)
+            hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+            hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+            return hash ^ (hash >>> 31);
+        }
+
+        boolean isZero() {
+            return count == 0 && sum == 0 && Arrays.stream(stars).allMatch(s -> s == 0);
+        }
+
+        boolean matches(ProductRatingSummary summary) {
+            if (summary == null) {
+                return isZero();
+            }
+            return summary.getReviewCount() == count
+                    && summary.getRatingSum() == sum
+                    && Arrays.equals(summary.histogram(), stars);
+        }
+
+        ProductRatingSummary toEntity(Long productId) {
+            return ProductRatingSummary.builder()
+                    .productId(productId)
+                    .reviewCount(count)
+                    .ratingSum(sum)
+                    .star1(stars[0])
+                    .star2(stars[1])
+                    .star3(stars[2])
+                    .star4(stars[3])
+                    .star5(stars[4])
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count + ", sum=" + sum + ", stars=" + Arrays.toString(stars);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.inkcloud.review_service.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inkcloud.review_service.dto.ProductUpdateEventDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 상품명 변경을 리뷰에 복사해 둔 product_name 에 반영하는 배치 컨슈머
+// poll 한 번의 이벤트를 상품별로 합쳐(가장 늦은 이름만) 상품당 UPDATE 한 문장으로 반영한다.
+// 시리즈 전체 이름 변경처럼 이벤트가 몰려도 DB 문장 수는 배치 안의 상품 수를 넘지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "review.product-rename.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductRenameListener {
+
+    private static final int MAX_PRODUCT_NAME_LENGTH = 50; // review.product_name 컬럼 길이
+
+    private final ReviewService reviewService;
+    private final ObjectMapper objectMapper;
+
+    // 처리 중 DB 오류가 나면 배치 전체를 다시 받는다 (같은 이름으로 다시 UPDATE 해도 결과가 같음)
+    @KafkaListener(topics = "${kafka.topic.product-update:product-update}",
+                   groupId = "${review.product-rename.group-id:review-product-rename}",
+                   containerFactory = "batchListenerContainerFactory",
+                   properties = "max.poll.records=${review.product-rename.max-poll-records:500}")
+    public void onProductUpdates(List<String> payloads) {
+        Map<Long, ProductUpdateEventDto> latest = new LinkedHashMap<>();
+        for (String payload : payloads) {
+            ProductUpdateEventDto event = parse(payload);
+            if (event != null) {
+                latest.merge(event.getProductId(), event, ProductRenameListener::newer);
+            }
+        }
+        if (latest.isEmpty()) {
+            return;
+        }
+        Map<Long, String> names = new LinkedHashMap<>();
+        latest.forEach((productId, event) -> names.put(productId, event.getName()));
+        int updated = reviewService.renameProducts(names);
+        log.info("상품명 변경 반영: events={}, products={}, reviews={}", payloads.size(), names.size(), updated);
+    }
+
+    // 상품명이 없는 이벤트(가격 변경 등)와 파싱할 수 없는 메시지는 건너뜀
+    private ProductUpdateEventDto parse(String payload) {
+        try {
+            ProductUpdateEventDto event = objectMapper.readValue(payload, ProductUpdateEventDto.class);
+            if (event.getProductId() == null || event.getName() == null || event.getName().isBlank()) {
+                return null;
+            }
+            if (event.getName().length() > MAX_PRODUCT_NAME_LENGTH) {
+                log.warn("상품명이 너무 길어 반영하지 않음: productId={}, length={}", event.getProductId(), event.getName().length());
+                return null;
+            }
+            return event;
+        } catch (JsonProcessingException e) {
+            log.warn("상품 수정 메시지 파싱 실패: {}", payload, e);
+            return null;
+        }
+    }
+
+    // 같은 상품의 이벤트가 여러 개면 updatedAt 이 늦은 것, 없으면 나중에 받은 것
+    private static ProductUpdateEventDto newer(ProductUpdateEventDto current, ProductUpdateEventDto next) {
+        if (current.getUpdatedAt() != null && next.getUpdatedAt() != null && next.getUpdatedAt().isBefore(current.getUpdatedAt())) {
+            return current;
+        }
+        return next;
+    }
+}
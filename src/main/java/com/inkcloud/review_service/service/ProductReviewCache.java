@@ -0,0 +1,127 @@
+package com.inkcloud.review_service.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.repository.RecentWrites;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 상품별 리뷰 목록 read-through 캐시 (Caffeine W-TinyLFU, 추정 바이트 크기 기준 상한)
+// 키에 상품별 버전 스탬프를 포함해, 리뷰 작성/수정/삭제나 좋아요 수 반영 커밋 후 스탬프를 올리면
+// 이전 항목은 더 이상 조회되지 않는다. 조회 도중 스탬프가 올라가도 옛 버전 키로 저장되므로 안전하다.
+// 캐시 항목의 좋아요 수는 DB 값이며, 미반영 증감은 응답 시점에 더한다.
+// 항목은 평소 복제본에서 읽어 채운다. 무효화 직후(review.datasource.replicas.sticky-ms 동안)만 그 상품의 조회를 primary 로 보낸다 -
+// 복제 지연된 복제본에서 읽으면 옛 목록이 새 버전 키로 TTL 동안 남기 때문 (다른 노드도 전파받은 무효화로 같은 창을 연다).
+// 비동기 캐시에 미완료 future 만 넣고 조회는 잠금 밖 호출 스레드에서 하므로, 같은 키의 동시 조회는 future 를 기다리고
+// 맵 내부 synchronized 구간에서 DB 조회가 돌지 않는다 (가상 스레드 캐리어 고정 방지).
+@Component
+public class ProductReviewCache {
+
+    private static final int VERSION_SLOTS = 4096;
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+    private static final int REVIEW_OVERHEAD_BYTES = 160;
+
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_SLOTS);
+    private final AsyncCache<Key, List<ReviewDto>> cache;
+    private final ObjectProvider<CacheInvalidationBroadcaster<Long>> broadcaster;
+    private final RecentWrites recentWrites;
+
+    public ProductReviewCache(MeterRegistry meterRegistry,
+                              ObjectProvider<CacheInvalidationBroadcaster<Long>> broadcaster,
+                              RecentWrites recentWrites,
+                              @Value("${review.product-cache.max-weight-bytes:67108864}") long maxWeightBytes,
+                              @Value("${review.product-cache.ttl-ms:600000}") long ttlMillis) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Key key, List<ReviewDto> reviews) -> weigh(reviews))
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .buildAsync();
+        this.broadcaster = broadcaster;
+        this.recentWrites = recentWrites;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "product-reviews");
+    }
+
+    public List<ReviewDto> get(Long productId, Supplier<List<ReviewDto>> loader) {
+        Key key = new Key(productId, versions.get(slot(productId)));
+        CompletableFuture<List<ReviewDto>> created = new CompletableFuture<>();
+        CompletableFuture<List<ReviewDto>> entry = cache.get(key, (k, executor) -> created);
+        if (entry != created) {
+            try {
+                return entry.join();
+            } catch (CompletionException e) {
+                // 먼저 조회한 스레드가 실패하면 (실패한 future 는 캐시에서 빠진다) 직접 조회
+                return load(productId, loader);
+            }
+        }
+        // 조회는 현재 스레드(샤드 바인딩/트랜잭션 유지)에서 - 실패하면 future 를 실패 처리해 대기자를 깨운다
+        try {
+            List<ReviewDto> reviews = load(productId, loader);
+            created.complete(reviews);
+            return reviews;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 커밋 후 호출 - 로컬 스탬프를 올리고, 설정된 경우 다른 노드에도 전파
+    public void invalidate(Long productId) {
+        invalidate(List.of(productId));
+    }
+
+    public void invalidate(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        invalidateLocal(productIds);
+        broadcaster.ifAvailable(b -> b.publish(productIds));
+    }
+
+    // 다른 노드에서 받은 무효화 반영
+    public void invalidateLocal(Collection<Long> productIds) {
+        for (Long productId : productIds) {
+            recentWrites.mark(RecentWrites.productKey(productId));
+            long version = versions.incrementAndGet(slot(productId));
+            cache.synchronous().invalidate(new Key(productId, version - 1)); // 옛 버전 항목은 메모리에서도 즉시 제거
+        }
+    }
+
+    private static List<ReviewDto> load(Long productId, Supplier<List<ReviewDto>> loader) {
+        return List.copyOf(RecentWrites.readingFor(RecentWrites.productKey(productId), loader));
+    }
+
+    private static int weigh(List<ReviewDto> reviews) {
+        long bytes = ENTRY_OVERHEAD_BYTES;
+        for (ReviewDto review : reviews) {
+            bytes += REVIEW_OVERHEAD_BYTES
+                    + 2L * (length(review.getComment()) + length(review.getProductName()) + length(review.getEmail()));
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static int slot(Long productId) {
+        return (Long.hashCode(productId) & 0x7fffffff) % VERSION_SLOTS;
+    }
+
+    private record Key(Long productId, long version) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.inkcloud.review_service.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.inkcloud.review_service.repository.ReviewShards;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 상품 평점 스냅숏 작업 - review 테이블을 상품 ID 청크 단위로 다시 집계해 바뀐 상품의 절대값을 압축 토픽으로 발행
+// 증분 이벤트(created/updated/deleted)가 유실/중복되어 어긋난 컨슈머가 이력 재생 없이 스스로 맞출 수 있게 한다.
+// 청크마다 짧은 트랜잭션 하나 + 청크 사이 pause-ms 대기로 DB 부하를 제한한다.
+// 모든 노드가 같은 cron 으로 깨어나므로 샤드마다 임대(job_lease)를 얻은 노드만 훑고, 청크마다 임대를 연장한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingSnapshotJob {
+
+    private static final String LEASE_NAME = "rating-snapshot";
+
+    private final ProductRatingSummaryService productRatingSummaryService;
+    private final ReviewShards reviewShards;
+    private final JobLeases jobLeases;
+
+    @Value("${review.rating-snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${review.rating-snapshot.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${review.rating-snapshot.pause-ms:200}")
+    private long pauseMillis;
+
+    // 청크 하나(집계 + 대기)보다 넉넉히 - 노드가 죽으면 이 시간 뒤 다른 노드가 이어받을 수 있다
+    @Value("${review.rating-snapshot.lease-ms:300000}")
+    private long leaseMillis;
+
+    @Scheduled(cron = "${review.rating-snapshot.cron:0 15 * * * *}")
+    public void publish() {
+        if (!enabled) {
+            return;
+        }
+        // 상품의 리뷰와 지문 행은 같은 샤드에 있으므로 샤드마다 따로 실행
+        reviewShards.forEachShard(this::publishShard);
+    }
+
+    private void publishShard(int shard) {
+        Duration lease = Duration.ofMillis(leaseMillis);
+        if (!jobLeases.tryAcquire(LEASE_NAME, lease)) {
+            log.debug("평점 스냅숏 건너뜀 - 다른 노드가 실행 중: shard={}", shard);
+            return;
+        }
+        try {
+            publishLeased(shard, lease);
+        } finally {
+            jobLeases.release(LEASE_NAME);
+        }
+    }
+
+    private void publishLeased(int shard, Duration lease) {
+        long startedAt = System.currentTimeMillis();
+        long after = 0L;
+        int products = 0;
+        int published = 0;
+
+        while (true) {
+            List<Long> productIds = productRatingSummaryService.findProductIdChunk(after, chunkSize);
+            if (productIds.isEmpty()) {
+                break;
+            }
+            Long last = productIds.get(productIds.size() - 1);
+            published += productRatingSummaryService.snapshotRange(after + 1, last);
+            products += productIds.size();
+            after = last;
+            if (!pause() || !jobLeases.tryAcquire(LEASE_NAME, lease)) {
+                log.info("평점 스냅숏 중단: shard={}, products={}, published={}", shard, products, published);
+                return;
+            }
+        }
+        // 마지막 리뷰 상품 이후에 발행 기록만 남은 상품 (리뷰가 모두 삭제된 상품)
+        published += productRatingSummaryService.snapshotRange(after + 1, Long.MAX_VALUE);
+
+        log.info("평점 스냅숏 발행 완료: shard={}, products={}, published={}, elapsed={}ms",
+                shard, products, published, System.currentTimeMillis() - startedAt);
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
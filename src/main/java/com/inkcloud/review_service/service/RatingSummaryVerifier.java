@@ -0,0 +1,89 @@
+package com.inkcloud.review_service.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.inkcloud.review_service.repository.ReviewShards;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 상품 평점 집계 검증 작업 - review 테이블을 상품 ID 청크 단위로 다시 집계해 증분 집계와의 불일치(drift)를 찾는다
+// 같은 일정으로 깨어난 노드들이 같은 구간을 잠그며 겹쳐 돌지 않도록 샤드마다 임대(JobLeases)를 얻은 노드만 실행한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingSummaryVerifier {
+
+    private static final String LEASE_NAME = "rating-summary-verify";
+
+    private final ProductRatingSummaryService productRatingSummaryService;
+    private final ReviewShards reviewShards;
+    private final JobLeases jobLeases;
+
+    @Value("${review.rating-summary.verify.enabled:true}")
+    private boolean enabled;
+
+    @Value("${review.rating-summary.verify.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${review.rating-summary.verify.repair:true}")
+    private boolean repair;
+
+    // 청크 하나를 검증하는 시간보다 넉넉히 - 노드가 죽으면 이 시간 뒤 다른 노드가 이어받을 수 있다
+    @Value("${review.rating-summary.verify.lease-ms:300000}")
+    private long leaseMillis;
+
+    @Scheduled(cron = "${review.rating-summary.verify.cron:0 30 4 * * *}")
+    public void verify() {
+        if (!enabled) {
+            return;
+        }
+        // 상품의 리뷰와 집계 행은 같은 샤드에 있으므로 샤드마다 따로 검증
+        reviewShards.forEachShard(this::verifyShard);
+    }
+
+    private void verifyShard(int shard) {
+        Duration lease = Duration.ofMillis(leaseMillis);
+        if (!jobLeases.tryAcquire(LEASE_NAME, lease)) {
+            log.debug("평점 집계 검증 건너뜀 - 다른 노드가 실행 중: shard={}", shard);
+            return;
+        }
+        try {
+            verifyLeased(shard, lease);
+        } finally {
+            jobLeases.release(LEASE_NAME);
+        }
+    }
+
+    private void verifyLeased(int shard, Duration lease) {
+        long startedAt = System.currentTimeMillis();
+        long after = 0L;
+        int products = 0;
+        int drifted = 0;
+
+        while (true) {
+            List<Long> productIds = productRatingSummaryService.findProductIdChunk(after, chunkSize);
+            if (productIds.isEmpty()) {
+                break;
+            }
+            Long last = productIds.get(productIds.size() - 1);
+            drifted += productRatingSummaryService.verifyRange(after + 1, last, repair);
+            products += productIds.size();
+            after = last;
+            if (!jobLeases.tryAcquire(LEASE_NAME, lease)) {
+                log.info("평점 집계 검증 중단: shard={}, products={}, drifted={}", shard, products, drifted);
+                return;
+            }
+        }
+        // 마지막 리뷰 상품 이후에 남아 있는 집계 행 (리뷰가 모두 삭제된 상품)
+        drifted += productRatingSummaryService.verifyRange(after + 1, Long.MAX_VALUE, repair);
+
+        log.info("평점 집계 검증 완료: shard={}, products={}, drifted={}, repair={}, elapsed={}ms",
+                shard, products, drifted, repair, System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,19 @@
+package com.inkcloud.review_service.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+import com.inkcloud.review_service.domain.ReportType;
+import com.inkcloud.review_service.dto.ExportFormat;
+import com.inkcloud.review_service.dto.ReviewRequestDto;
+
+public interface ReviewExportService {
+
+    // 관리자 리뷰 검색 조건(page/size 제외)에 맞는 전체 리뷰를 스트리밍으로 기록
+    void exportReviews(ReviewRequestDto filter, ExportFormat format, OutputStream out) throws IOException;
+
+    // 신고 검색 조건에 맞는 전체 신고를 스트리밍으로 기록
+    void exportReports(ReportType type, LocalDateTime from, LocalDateTime to, String keyword,
+                       ExportFormat format, OutputStream out) throws IOException;
+}
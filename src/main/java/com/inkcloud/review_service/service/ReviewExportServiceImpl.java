@@ -0,0 +1,216 @@
+package com.inkcloud.review_service.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inkcloud.review_service.domain.ReportType;
+import com.inkcloud.review_service.dto.ExportFormat;
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.dto.ReviewReportDto;
+import com.inkcloud.review_service.dto.ReviewRequestDto;
+import com.inkcloud.review_service.repository.ReviewReportRepository;
+import com.inkcloud.review_service.repository.ReviewRepository;
+import com.inkcloud.review_service.repository.ReviewShards;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 관리자 내보내기 - 샤드마다 읽기 전용 트랜잭션 하나에서 전진 전용 스크롤로 읽으며 바로 응답 스트림에 쓴다
+// 한 번에 메모리에 있는 행은 fetch size 만큼이라 내보내는 행 수와 관계없이 메모리 사용량이 일정하다.
+// MySQL 은 useCursorFetch=true 가 없으면 fetch size 를 무시하고 결과 전체를 받아오므로, 그 경우 행 단위 스트리밍(Integer.MIN_VALUE)을 쓴다.
+@Slf4j
+@Service
+public class ReviewExportServiceImpl implements ReviewExportService {
+
+    private static final List<String> REVIEW_COLUMNS = List.of(
+            "id", "email", "productId", "productName", "rating", "comment", "likeCount", "createdAt", "updatedAt");
+    private static final List<String> REPORT_COLUMNS = List.of(
+            "id", "reviewId", "productId", "productName", "reporterEmail", "type", "reason", "reportedAt");
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewReportRepository reviewReportRepository;
+    private final ReviewShards reviewShards;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public ReviewExportServiceImpl(ReviewRepository reviewRepository,
+                                   ReviewReportRepository reviewReportRepository,
+                                   ReviewShards reviewShards,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectMapper objectMapper,
+                                   DataSourceProperties dataSourceProperties,
+                                   @Value("${review.export.fetch-size:1000}") int fetchSize) {
+        this.reviewRepository = reviewRepository;
+        this.reviewReportRepository = reviewReportRepository;
+        this.reviewShards = reviewShards;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = effectiveFetchSize(dataSourceProperties.getUrl(), fetchSize);
+    }
+
+    @Override
+    public void exportReviews(ReviewRequestDto filter, ExportFormat format, OutputStream out) throws IOException {
+        export(format, out, REVIEW_COLUMNS,
+                () -> reviewRepository.streamReviews(filter.getKeyword(), filter.getStartDate(), filter.getEndDate(),
+                        filter.getMinRating(), filter.getMaxRating(), fetchSize),
+                review -> Arrays.asList(review.getId(), review.getEmail(), review.getProductId(), review.getProductName(),
+                        review.getRating(), review.getComment(), review.getLikeCount(), review.getCreatedAt(), review.getUpdatedAt()),
+                ReviewDto.class);
+    }
+
+    @Override
+    public void exportReports(ReportType type, LocalDateTime from, LocalDateTime to, String keyword,
+                              ExportFormat format, OutputStream out) throws IOException {
+        export(format, out, REPORT_COLUMNS,
+                () -> reviewReportRepository.streamReports(type, from, to, keyword, fetchSize),
+                report -> Arrays.asList(report.getId(), report.getReviewId(), report.getProductId(), report.getProductName(),
+                        report.getReporterEmail(), report.getType(), report.getReason(), report.getReportedAt()),
+                ReviewReportDto.class);
+    }
+
+    private <T> void export(ExportFormat format, OutputStream out, List<String> columns, Supplier<Stream<T>> rows,
+                            Function<T, List<Object>> csvValues, Class<T> type) throws IOException {
+        RowWriter<T> writer = format == ExportFormat.CSV
+                ? new CsvRowWriter<>(out, columns, csvValues)
+                : new NdjsonRowWriter<>(objectMapper, out);
+        long[] written = new long[1];
+        try {
+            reviewShards.forEachShard(shard -> readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<T> stream = rows.get()) {
+                    stream.forEach(row -> {
+                        try {
+                            writer.write(row);
+                            written[0]++;
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+            }));
+            writer.finish();
+        } catch (UncheckedIOException e) {
+            // 대부분 클라이언트가 연결을 끊은 경우
+            log.info("{} 내보내기 중단: written={}, error={}", type.getSimpleName(), written[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+        log.info("{} 내보내기 완료: format={}, rows={}", type.getSimpleName(), format, written[0]);
+    }
+
+    private static int effectiveFetchSize(String url, int configured) {
+        if (url != null && url.startsWith("jdbc:mysql:") && !url.contains("useCursorFetch=true")) {
+            return Integer.MIN_VALUE;
+        }
+        return configured;
+    }
+
+    private interface RowWriter<T> {
+        void write(T row) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    // 한 줄에 JSON 하나 (마지막 줄도 줄바꿈으로 끝남) - 행마다 flush 하지 않고 버퍼 단위로 내보낸다
+    // 응답 스트림은 닫지 않는다 (컨테이너가 닫음)
+    private static final class NdjsonRowWriter<T> implements RowWriter<T> {
+
+        private final OutputStream out;
+        private final SequenceWriter sequenceWriter;
+        private boolean empty = true;
+
+        NdjsonRowWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+            this.out = out;
+            this.sequenceWriter = objectMapper.writer()
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(out);
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            sequenceWriter.write(row);
+            empty = false;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            sequenceWriter.close();
+            if (!empty) {
+                out.write('\n');
+            }
+            out.flush();
+        }
+    }
+
+    // RFC 4180 - 쉼표/따옴표/줄바꿈이 있는 값만 따옴표로 감싼다
+    private static final class CsvRowWriter<T> implements RowWriter<T> {
+
+        // 스프레드시트가 수식으로 해석하는 첫 글자 (CSV 수식 주입) - 문자열 값이 이 글자로 시작하면 ' 를 붙여 글자로 둔다
+        private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+        private final Writer writer;
+        private final Function<T, List<Object>> values;
+
+        CsvRowWriter(OutputStream out, List<String> columns, Function<T, List<Object>> values) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            this.values = values;
+            writeLine(List.copyOf(columns));
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            writeLine(values.apply(row));
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeLine(List<?> fields) throws IOException {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(fields.get(i)));
+            }
+            writer.write("\r\n");
+        }
+
+        private static String escape(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value.toString();
+            if (value instanceof CharSequence && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+                text = "'" + text;
+            }
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                return text;
+            }
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.inkcloud.review_service.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.inkcloud.review_service.dto.ReviewImportProgressDto;
+
+public interface ReviewImportService {
+
+    // NDJSON 리뷰(+좋아요)를 청크 단위로 커밋하며 가져오기, 끝난 뒤 최종 진행 상황 반환
+    // 이미 있는 (상품, 작성자) 리뷰는 건너뛰므로 실패한 작업은 같은 입력으로 다시 실행하면 된다
+    ReviewImportProgressDto importReviews(String jobId, InputStream in) throws IOException;
+
+    // 진행 중이거나 최근에 끝난 작업의 진행 상황 (없으면 null)
+    ReviewImportProgressDto getProgress(String jobId);
+}
@@ -0,0 +1,362 @@
+package com.inkcloud.review_service.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inkcloud.review_service.domain.Review;
+import com.inkcloud.review_service.dto.ReviewEventDto;
+import com.inkcloud.review_service.dto.ReviewImportDto;
+import com.inkcloud.review_service.dto.ReviewImportProgressDto;
+import com.inkcloud.review_service.dto.ReviewIndexEventDto;
+import com.inkcloud.review_service.repository.CountCache;
+import com.inkcloud.review_service.repository.ProductReviewVersionRepository;
+import com.inkcloud.review_service.repository.ReviewShards;
+import com.inkcloud.review_service.repository.ReviewWriteQueries;
+import com.inkcloud.review_service.util.Chunks;
+import com.inkcloud.review_service.util.TransactionHooks;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+// 리뷰 일괄 가져오기 (이전 플랫폼 이관/백필)
+// - 입력을 chunk-size 줄씩 읽어 샤드별로 나누고, 샤드마다 새 트랜잭션 하나로 커밋한다 (실패해도 앞선 청크는 남는다)
+// - 리뷰 ID 는 블록 예약이라 persist 만으로 ID 가 정해지고, hibernate.jdbc.batch_size 단위로 flush/clear 해 배치 INSERT 로 나간다
+// - 좋아요는 IDENTITY 키라 JPA 로는 배치가 안 되므로 같은 트랜잭션 커넥션으로 JDBC 배치 INSERT (없을 때만),
+//   실제로 들어간 행 수만 like_count 에 증감으로 더한다 (LikeCountBuffer 의 미반영 증감과 겹치지 않게 절대값으로 덮어쓰지 않음)
+// - 평점 집계/아웃박스 이벤트는 리뷰 작성과 같게 같은 트랜잭션에서, 검색 색인/캐시 무효화는 커밋 후 반영
+@Slf4j
+@Service
+public class ReviewImportServiceImpl implements ReviewImportService {
+
+    // 행마다 0/1 건이 정확히 나오도록 NOT EXISTS 조건 INSERT (동시에 같은 좋아요가 들어오면 유니크 키 오류로 청크 롤백 - 재실행으로 맞춘다)
+    private static final String INSERT_LIKE_SQL = "INSERT INTO review_like (review_id, email, created_at) "
+            + "SELECT ?, ?, ? FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM review_like WHERE review_id = ? AND email = ?)";
+    private static final String FIND_KEYS_SQL = "SELECT id, product_id, email FROM review WHERE (product_id, email) IN (%s)";
+    private static final int IN_CHUNK_SIZE = 500;
+
+    private final ProductRatingSummaryService productRatingSummaryService;
+    private final OutboxService outboxService;
+    private final ReviewSearchIndexFeed reviewSearchIndexFeed;
+    private final CountCache countCache;
+    private final ProductReviewCache productReviewCache;
+    private final LikeStateCache likeStateCache;
+    private final ReviewShards reviewShards;
+    private final ProductReviewVersionRepository productReviewVersionRepository;
+    private final ReviewWriteQueries reviewWriteQueries;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, ImportJob> jobs = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofDays(1))
+            .maximumSize(100)
+            .build();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${review.import.chunk-size:5000}")
+    private int chunkSize = 5000;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int batchSize = 100;
+
+    @Value("${kafka.topic.review-rating-update:review-rating-update}")
+    private String reviewRatingUpdateTopic;
+
+    public ReviewImportServiceImpl(ProductRatingSummaryService productRatingSummaryService,
+                                   OutboxService outboxService,
+                                   ReviewSearchIndexFeed reviewSearchIndexFeed,
+                                   CountCache countCache,
+                                   ProductReviewCache productReviewCache,
+                                   LikeStateCache likeStateCache,
+                                   ReviewShards reviewShards,
+                                   ProductReviewVersionRepository productReviewVersionRepository,
+                                   ReviewWriteQueries reviewWriteQueries,
+                                   JdbcTemplate jdbcTemplate,
+                                   ObjectMapper objectMapper) {
+        this.productRatingSummaryService = productRatingSummaryService;
+        this.outboxService = outboxService;
+        this.reviewSearchIndexFeed = reviewSearchIndexFeed;
+        this.countCache = countCache;
+        this.productReviewCache = productReviewCache;
+        this.likeStateCache = likeStateCache;
+        this.reviewShards = reviewShards;
+        this.productReviewVersionRepository = productReviewVersionRepository;
+        this.reviewWriteQueries = reviewWriteQueries;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ReviewImportProgressDto importReviews(String jobId, InputStream in) throws IOException {
+        ImportJob job = start(jobId == null || jobId.isBlank() ? UUID.randomUUID().toString() : jobId.trim());
+        log.info("리뷰 가져오기 시작: jobId={}, chunkSize={}, batchSize={}", job.jobId, chunkSize, batchSize);
+        try (MappingIterator<ReviewImportDto> lines = objectMapper.readerFor(ReviewImportDto.class).readValues(in)) {
+            List<ReviewImportDto> chunk = new ArrayList<>(chunkSize);
+            while (lines.hasNextValue()) {
+                ReviewImportDto line = lines.nextValue();
+                job.read.incrementAndGet();
+                String error = validate(line);
+                if (error != null) {
+                    job.rejected.incrementAndGet();
+                    job.lastError = "line " + lines.getCurrentLocation().getLineNr() + ": " + error;
+                    continue;
+                }
+                chunk.add(line);
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, job);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, job);
+            }
+            job.finish("COMPLETED", job.lastError);
+        } catch (JsonProcessingException e) {
+            // 깨진 줄 이후는 읽을 수 없으므로 중단 (앞선 청크는 커밋된 상태, 입력을 고쳐 다시 실행)
+            String line = e.getLocation() == null ? "?" : String.valueOf(e.getLocation().getLineNr());
+            job.finish("FAILED", "line " + line + ": " + e.getOriginalMessage());
+            log.warn("리뷰 가져오기 입력 오류: jobId={}, {}", job.jobId, job.lastError);
+            return job.snapshot();
+        } catch (IOException | RuntimeException e) {
+            job.finish("FAILED", e.getMessage());
+            log.warn("리뷰 가져오기 실패: jobId={}, read={}, imported={}", job.jobId, job.read.get(), job.imported.get(), e);
+            throw e;
+        }
+        ReviewImportProgressDto progress = job.snapshot();
+        log.info("리뷰 가져오기 완료: jobId={}, read={}, imported={}, skipped={}, rejected={}, likes={}, rows/s={}",
+                progress.getJobId(), progress.getRead(), progress.getImported(), progress.getSkipped(),
+                progress.getRejected(), progress.getLikes(), progress.getRowsPerSecond());
+        return progress;
+    }
+
+    @Override
+    public ReviewImportProgressDto getProgress(String jobId) {
+        ImportJob job = jobs.getIfPresent(jobId);
+        return job == null ? null : job.snapshot();
+    }
+
+    // 같은 jobId 로 실행 중인 작업이 있으면 거부 (끝난 작업 ID 는 재실행 가능)
+    private ImportJob start(String jobId) {
+        boolean[] started = new boolean[1];
+        ImportJob job = jobs.asMap().compute(jobId, (key, current) -> {
+            if (current != null && "RUNNING".equals(current.status)) {
+                return current;
+            }
+            started[0] = true;
+            return new ImportJob(key);
+        });
+        if (started[0]) {
+            return job;
+        }
+        throw new IllegalArgumentException("이미 실행 중인 가져오기 작업입니다. (jobId=" + jobId + ")");
+    }
+
+    private static String validate(ReviewImportDto line) {
+        if (line == null || line.getProductId() == null || isBlank(line.getEmail()) || isBlank(line.getProductName())) {
+            return "productId, productName, email 은 필수입니다.";
+        }
+        if (line.getRating() == null || line.getRating() < 1 || line.getRating() > 5) {
+            return "평점은 1~5 사이여야 합니다.";
+        }
+        if (line.getEmail().length() > 50 || line.getProductName().length() > 50
+                || (line.getComment() != null && line.getComment().length() > 255)) {
+            return "컬럼 길이를 초과했습니다.";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // 청크를 샤드별로 나눠 샤드마다 새 트랜잭션으로 커밋 (샤드 간 원자성은 없음 - 재실행으로 맞춘다)
+    private void importChunk(List<ReviewImportDto> chunk, ImportJob job) {
+        Map<Integer, List<ReviewImportDto>> byShard = new TreeMap<>();
+        for (ReviewImportDto line : chunk) {
+            byShard.computeIfAbsent(reviewShards.forProduct(line.getProductId()), shard -> new ArrayList<>()).add(line);
+        }
+        byShard.forEach((shard, lines) -> {
+            ChunkResult result = reviewShards.inNewTransaction(shard, () -> importOnShard(lines));
+            job.imported.addAndGet(result.imported());
+            job.skipped.addAndGet(result.skipped());
+            job.likes.addAndGet(result.likes());
+        });
+        job.chunks.incrementAndGet();
+    }
+
+    private ChunkResult importOnShard(List<ReviewImportDto> lines) {
+        // 청크 안의 중복은 처음 줄만, DB 에 이미 있는 리뷰는 기존 ID 로 좋아요만 넣는다
+        Map<String, ReviewImportDto> unique = new LinkedHashMap<>();
+        for (ReviewImportDto line : lines) {
+            unique.putIfAbsent(key(line.getProductId(), line.getEmail()), line);
+        }
+        Map<String, Long> existing = findExisting(unique.values());
+
+        List<Review> created = new ArrayList<>();
+        List<Object[]> likeRows = new ArrayList<>();
+        Set<String> likers = new HashSet<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Map.Entry<String, ReviewImportDto> entry : unique.entrySet()) {
+            ReviewImportDto line = entry.getValue();
+            Long reviewId = existing.get(entry.getKey());
+            if (reviewId == null) {
+                Review review = Review.builder()
+                        .email(line.getEmail())
+                        .productId(line.getProductId())
+                        .productName(line.getProductName())
+                        .rating(line.getRating())
+                        .comment(line.getComment())
+                        .createdAt(line.getCreatedAt())
+                        .build();
+                entityManager.persist(review);
+                created.add(review);
+                reviewId = review.getId();
+                if (created.size() % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            if (line.getLikedBy() != null) {
+                for (String liker : new LinkedHashSet<>(line.getLikedBy())) {
+                    if (!isBlank(liker)) {
+                        likeRows.add(new Object[] { reviewId, liker, now, reviewId, liker });
+                        likers.add(liker);
+                    }
+                }
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        long likes = likeRows.isEmpty() ? 0 : addLikes(likeRows);
+
+        List<ReviewEventDto> events = created.stream()
+                .map(review -> new ReviewEventDto("created", review.getProductId(), review.getRating(), null))
+                .toList();
+        if (!events.isEmpty()) {
+            productRatingSummaryService.applyEvents(events);
+            outboxService.appendAll(reviewRatingUpdateTopic, events, event -> String.valueOf(event.getProductId()));
+        }
+
+        reviewSearchIndexFeed.upsertAll(created.stream()
+                .map(review -> new ReviewIndexEventDto(review.getId(), review.getProductName(), review.getComment(), review.getEmail(), false))
+                .toList());
+
+        List<Long> productIds = unique.values().stream().map(ReviewImportDto::getProductId).distinct().toList();
+        productReviewVersionRepository.bumpAll(productIds);
+        TransactionHooks.afterCommit(() -> {
+            countCache.invalidate(CountCache.REVIEW);
+            productReviewCache.invalidate(productIds);
+            likeStateCache.invalidate(likers);
+        });
+        return new ChunkResult(created.size(), lines.size() - created.size(), likes);
+    }
+
+    // 좋아요 INSERT 후 좋아요를 넣은 리뷰의 like_count 를 실제 행 수로 다시 세고, 들어간 건수(행 수 차이) 반환
+    // 배치 건수는 드라이버에 따라 SUCCESS_NO_INFO(-2) 라 행마다 들어갔는지 알 수 없으므로 쓰지 않는다
+    private long addLikes(List<Object[]> likeRows) {
+        Set<Long> reviewIds = new LinkedHashSet<>();
+        likeRows.forEach(row -> reviewIds.add((Long) row[0]));
+        long before = reviewWriteQueries.countLikes(reviewIds);
+        jdbcTemplate.batchUpdate(INSERT_LIKE_SQL, likeRows);
+        reviewWriteQueries.recountLikes(reviewIds);
+        return reviewWriteQueries.countLikes(reviewIds) - before;
+    }
+
+    // (상품, 작성자) -> 기존 리뷰 ID - 유니크 키 (product_id, email) 를 행 값 IN 으로 조회 (정확한 쌍만, 청크 단위)
+    private Map<String, Long> findExisting(Collection<ReviewImportDto> lines) {
+        Map<String, Long> existing = new LinkedHashMap<>();
+        for (List<ReviewImportDto> chunk : Chunks.of(new ArrayList<>(lines), IN_CHUNK_SIZE)) {
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "(?, ?)"));
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                args[2 * i] = chunk.get(i).getProductId();
+                args[2 * i + 1] = chunk.get(i).getEmail();
+            }
+            jdbcTemplate.query(String.format(FIND_KEYS_SQL, placeholders), rs -> {
+                existing.put(key(rs.getLong("product_id"), rs.getString("email")), rs.getLong("id"));
+            }, args);
+        }
+        return existing;
+    }
+
+    private static String key(Long productId, String email) {
+        return productId + ":" + email;
+    }
+
+    private record ChunkResult(long imported, long skipped, long likes) {
+    }
+
+    // 작업별 누적 카운터 - 가져오는 스레드가 쓰고 진행 상황 조회 요청이 읽는다
+    private static final class ImportJob {
+
+        private final String jobId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong read = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong likes = new AtomicLong();
+        private final AtomicLong chunks = new AtomicLong();
+        private volatile String status = "RUNNING";
+        private volatile String lastError;
+        private volatile LocalDateTime finishedAt;
+        private volatile long elapsedNanos = -1;
+
+        ImportJob(String jobId) {
+            this.jobId = jobId;
+        }
+
+        void finish(String status, String error) {
+            this.elapsedNanos = System.nanoTime() - startedNanos;
+            this.finishedAt = LocalDateTime.now();
+            this.lastError = error;
+            this.status = status;
+        }
+
+        ReviewImportProgressDto snapshot() {
+            long elapsed = elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startedNanos;
+            long done = imported.get() + skipped.get();
+            return ReviewImportProgressDto.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .read(read.get())
+                    .imported(imported.get())
+                    .skipped(skipped.get())
+                    .rejected(rejected.get())
+                    .likes(likes.get())
+                    .chunks(chunks.get())
+                    .rowsPerSecond(elapsed > 0 ? done * 1_000_000_000L / elapsed : 0)
+                    .lastError(lastError)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.inkcloud.review_service.domain.ReportType;
 import com.inkcloud.review_service.domain.ReviewReport;
@@ -19,6 +20,9 @@ public interface ReviewReportService {
     // List<ReviewReportDto> getAllReports(); // 관리자용
     Page<ReviewReportDto> searchReports(ReportType type, LocalDateTime from, LocalDateTime to, String keyword, Pageable pageable);
 
+    // 관리자 리뷰 리포트 조회 (count 없는 무한 스크롤)
+    Slice<ReviewReportDto> searchReportsSlice(ReportType type, LocalDateTime from, LocalDateTime to, String keyword, Pageable pageable);
+
     // 리포트(신고) 삭제
     void deleteReports(List<Long> reportIds);
     
@@ -5,20 +5,30 @@ import com.inkcloud.review_service.domain.Review;
 import com.inkcloud.review_service.domain.ReviewReport;
 import com.inkcloud.review_service.dto.ReviewReportDto;
 
+import com.inkcloud.review_service.repository.CountCache;
 import com.inkcloud.review_service.repository.ReviewReportRepository;
 import com.inkcloud.review_service.repository.ReviewRepository;
+import com.inkcloud.review_service.repository.ReviewShards;
+import com.inkcloud.review_service.repository.ShardContext;
+import com.inkcloud.review_service.repository.ShardedReviewQueries;
+import com.inkcloud.review_service.util.Chunks;
+import com.inkcloud.review_service.util.TransactionHooks;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @ToString
 @Slf4j
@@ -26,13 +36,19 @@ import java.util.List;
 @RequiredArgsConstructor
 @Transactional
 public class ReviewReportServiceImpl implements ReviewReportService {
+    private static final int DELETE_CHUNK_SIZE = 500;
+
     private final ReviewReportRepository reviewReportRepository;
     private final ReviewRepository reviewRepository;
+    private final CountCache countCache;
+    private final ReviewShards reviewShards;
+    private final ShardedReviewQueries shardedReviewQueries;
 
     //리뷰 신고
     @Override
     public void reportReview(Long reviewId, String reporterEmail, ReportType type, String reason) {
         log.info("리뷰 신고 요청: reviewId={}, reporterEmail={}, type={}, reason={}", reviewId, reporterEmail, type, reason);
+        reviewShards.bindReview(reviewId); // 신고는 대상 리뷰와 같은 샤드에 저장
         Review review = reviewRepository.findById(reviewId)
             .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
 
@@ -49,6 +65,7 @@ public class ReviewReportServiceImpl implements ReviewReportService {
             .reportedAt(LocalDateTime.now())
             .build();
         reviewReportRepository.save(report);
+        TransactionHooks.afterCommit(() -> countCache.invalidate(CountCache.REPORT));
         log.info("리뷰 신고 저장 완료");
     }
 
@@ -60,43 +77,30 @@ public class ReviewReportServiceImpl implements ReviewReportService {
     //             .toList();
     // }
 
-    //관리자 리뷰리포트 조회
+    //관리자 리뷰리포트 조회 - 리포지토리에서 DTO 프로젝션으로 바로 조회
     @Override
+    @Transactional(readOnly = true)
     public Page<ReviewReportDto> searchReports(ReportType type, LocalDateTime from, LocalDateTime to, String keyword, Pageable pageable) {
-        Page<ReviewReport> reports = reviewReportRepository.searchReports(type, from, to, keyword, pageable);
-
-        Page<ReviewReportDto> dtoPage = reports.map(this::entityToDto);
-
-        // 엔티티의 reportedAt 로그로 출력
-        for (ReviewReport report : reports.getContent()) {
-            log.info("리뷰리포트 reportedAt: {}", report.getReportedAt());
-        }
-
-        // DTO의 reportedAt 로그로 출력
-        for (ReviewReportDto dto : dtoPage.getContent()) {
-            log.info("리뷰리포트 DTO reportedAt: {}", dto.getReportedAt());
-        }
+        // 복제본에서 조회 - 복제 지연으로 옛 count 가 캐시되어도 TTL 동안만 남는다
+        return shardedReviewQueries.searchReports(type, from, to, keyword, pageable);
+    }
 
-        return dtoPage;
+    //관리자 리뷰리포트 조회 (count 없는 무한 스크롤)
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ReviewReportDto> searchReportsSlice(ReportType type, LocalDateTime from, LocalDateTime to, String keyword, Pageable pageable) {
+        return shardedReviewQueries.searchReportsSlice(type, from, to, keyword, pageable);
     }
 
-    // DTO에 productId, productName 추가 (Review 엔티티에서 바로 조회)
+    // DTO에 productId, productName 추가 (Review 는 지연 로딩 - 트랜잭션 안에서 단건 변환용, 목록은 DTO 프로젝션 사용)
     public ReviewReportDto entityToDto(ReviewReport entity) {
-        Review review = reviewRepository.findById(entity.getReview().getId())
-            .orElse(null);
-
-        Long productId = null;
-        String productName = null;
-        if (review != null) {
-            productId = review.getProductId();
-            productName = review.getProductName();
-        }
+        Review review = entity.getReview();
 
         return ReviewReportDto.builder()
                 .id(entity.getId())
-                .reviewId(entity.getReview().getId())
-                .productId(productId)
-                .productName(productName)
+                .reviewId(review.getId())
+                .productId(review.getProductId())
+                .productName(review.getProductName())
                 .reporterEmail(entity.getReporterEmail())
                 .type(entity.getType()) 
                 .reason(entity.getReason())
@@ -104,23 +108,55 @@ public class ReviewReportServiceImpl implements ReviewReportService {
                 .build();
     }
 
-    //리뷰 신고 내역 삭제 
+    //리뷰 신고 내역 삭제 - 존재 확인과 삭제를 IN 청크 단위로 일괄 처리
     @Override
     public void deleteReports(List<Long> reportIds) {
         log.info("리뷰 신고 여러 건 삭제 요청: reportIds={}", reportIds);
-        for (Long reportId : reportIds) {
-            ReviewReport report = reviewReportRepository.findById(reportId)
-                    .orElseThrow(() -> new IllegalArgumentException("신고 내역을 찾을 수 없습니다. (reportId=" + reportId + ")"));
-            reviewReportRepository.delete(report);
-            log.info("리뷰 신고 삭제 완료: reportId={}", reportId);
+        List<Long> ids = reportIds.stream().distinct().toList();
+        Map<Integer, List<Long>> byShard = reviewShards.groupReportIds(ids);
+        if (byShard.size() <= 1) {
+            byShard.keySet().forEach(ShardContext::bind);
+            deleteReportsOnShard(ids);
+            return;
+        }
+        // 여러 샤드에 걸친 삭제 - 모든 샤드에서 존재 여부를 먼저 확인한 뒤 샤드별 트랜잭션으로 삭제 (샤드 간 원자성은 없음)
+        byShard.forEach((shard, shardIds) -> reviewShards.inNewTransaction(shard, () -> {
+            checkReportsExist(shardIds);
+            return null;
+        }));
+        byShard.forEach((shard, shardIds) -> reviewShards.inNewTransaction(shard, () -> {
+            deleteReportsOnShard(shardIds);
+            return null;
+        }));
+    }
+
+    private void deleteReportsOnShard(List<Long> ids) {
+        checkReportsExist(ids);
+
+        int deleted = 0;
+        for (List<Long> chunk : Chunks.of(ids, DELETE_CHUNK_SIZE)) {
+            deleted += reviewReportRepository.deleteAllByIdIn(chunk);
+        }
+        TransactionHooks.afterCommit(() -> countCache.invalidate(CountCache.REPORT));
+        log.info("리뷰 신고 삭제 완료: count={}", deleted);
+    }
+
+    private void checkReportsExist(List<Long> ids) {
+        Set<Long> existing = new HashSet<>(ids.size());
+        for (List<Long> chunk : Chunks.of(ids, DELETE_CHUNK_SIZE)) {
+            existing.addAll(reviewReportRepository.findExistingIds(chunk));
+        }
+        for (Long reportId : ids) {
+            if (!existing.contains(reportId)) {
+                throw new IllegalArgumentException("신고 내역을 찾을 수 없습니다. (reportId=" + reportId + ")");
+            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ReviewReportDto> getReportsByReviewId(Long reviewId) {
-        List<ReviewReport> reports = reviewReportRepository.findAllByReviewId(reviewId);
-        return reports.stream()
-                .map(this::entityToDto)
-                .toList();
+        reviewShards.bindReview(reviewId);
+        return reviewReportRepository.findDtosByReviewId(reviewId);
     }
 }
@@ -0,0 +1,133 @@
+package com.inkcloud.review_service.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inkcloud.review_service.dto.ReviewIndexEventDto;
+import com.inkcloud.review_service.repository.ReviewSearchIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 관리자 검색 색인을 모든 노드에서 같게 유지하는 변경 스트림
+// 쓰기 트랜잭션 안에서 아웃박스에 색인 변경을 저장하고(커밋되어야만 발행), 노드마다 고유한 컨슈머 그룹으로 구독해
+// 자기 노드를 포함한 모든 노드의 메모리 색인에 반영한다. 기동 이전 변경은 기동 후 전체 스캔(ReviewSearchIndexLoader)이 채운다.
+// 스캔과 구독 사이에 발행된 변경을 놓치지 않도록, 스캔 전에 토픽 끝 오프셋을 기록하고 구독을 시작해 그 위치로 이동한다
+// (그 뒤 변경은 스캔 결과와 겹쳐도 키(리뷰 ID) 순서대로 다시 반영되므로 마지막 값이 남는다). 기록 후 생긴 파티션은 처음부터 읽는다.
+@Slf4j
+@Component
+public class ReviewSearchIndexFeed implements ConsumerSeekAware {
+
+    static final String LISTENER_ID = "review-search-index";
+    private static final Duration METADATA_TIMEOUT = Duration.ofSeconds(30);
+
+    private final OutboxService outboxService;
+    private final ReviewSearchIndex reviewSearchIndex;
+    private final ObjectMapper objectMapper;
+    private final ConsumerFactory<Object, Object> consumerFactory;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final String topic;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+    // 처음 할당받을 때 이동할 위치 (한 번 이동하면 제거 - 재할당 때는 커밋된 오프셋부터)
+    private final Map<TopicPartition, Long> startOffsets = new ConcurrentHashMap<>();
+
+    public ReviewSearchIndexFeed(OutboxService outboxService,
+                                 ReviewSearchIndex reviewSearchIndex,
+                                 ObjectMapper objectMapper,
+                                 ConsumerFactory<Object, Object> consumerFactory,
+                                 KafkaListenerEndpointRegistry listenerRegistry,
+                                 @Value("${review.search-index.topic:review-search-index}") String topic,
+                                 @Value("${review.search-index.enabled:true}") boolean enabled) {
+        this.outboxService = outboxService;
+        this.reviewSearchIndex = reviewSearchIndex;
+        this.objectMapper = objectMapper;
+        this.consumerFactory = consumerFactory;
+        this.listenerRegistry = listenerRegistry;
+        this.topic = topic;
+        this.enabled = enabled;
+    }
+
+    public String getGroupId() {
+        return "review-search-index-" + nodeId;
+    }
+
+    // 호출 트랜잭션 안에서 호출
+    public void upsert(Long reviewId, String productName, String comment, String email) {
+        append(List.of(new ReviewIndexEventDto(reviewId, productName, comment, email, false)));
+    }
+
+    public void upsertAll(Collection<ReviewIndexEventDto> events) {
+        append(List.copyOf(events));
+    }
+
+    public void removeAll(Collection<Long> reviewIds) {
+        append(reviewIds.stream().map(id -> new ReviewIndexEventDto(id, null, null, null, true)).toList());
+    }
+
+    private void append(List<ReviewIndexEventDto> events) {
+        if (enabled && !events.isEmpty()) {
+            outboxService.appendAll(topic, events, event -> String.valueOf(event.getReviewId()));
+        }
+    }
+
+    // 초기 스캔 직전에 호출 - 현재 토픽 끝 오프셋을 기록하고 구독 시작
+    public void subscribeFromNow() {
+        try (Consumer<Object, Object> consumer = consumerFactory.createConsumer(getGroupId(), "-offsets")) {
+            List<PartitionInfo> partitions = consumer.partitionsFor(topic, METADATA_TIMEOUT);
+            if (partitions != null && !partitions.isEmpty()) {
+                consumer.endOffsets(partitions.stream().map(p -> new TopicPartition(p.topic(), p.partition())).toList(),
+                        METADATA_TIMEOUT).forEach(startOffsets::put);
+            }
+        }
+        log.info("검색 색인 변경 구독 시작: partitions={}", startOffsets);
+        listenerRegistry.getListenerContainer(LISTENER_ID).start();
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        assignments.keySet().forEach(partition -> {
+            Long offset = startOffsets.remove(partition);
+            if (offset != null) {
+                callback.seek(partition.topic(), partition.partition(), offset);
+            }
+        });
+    }
+
+    // 구독은 초기 스캔(ReviewSearchIndexLoader)이 subscribeFromNow 로 시작한다
+    @KafkaListener(id = LISTENER_ID,
+                   topics = "${review.search-index.topic:review-search-index}",
+                   groupId = "#{__listener.groupId}",
+                   containerFactory = "batchListenerContainerFactory",
+                   autoStartup = "false",
+                   properties = "auto.offset.reset=earliest")
+    public void onIndexEvents(List<String> payloads) {
+        for (String payload : payloads) {
+            try {
+                ReviewIndexEventDto event = objectMapper.readValue(payload, ReviewIndexEventDto.class);
+                if (event.isDeleted()) {
+                    reviewSearchIndex.remove(event.getReviewId());
+                } else {
+                    reviewSearchIndex.upsert(event.getReviewId(), event.getProductName(), event.getComment(), event.getEmail());
+                }
+            } catch (JsonProcessingException e) {
+                log.warn("검색 색인 변경 메시지 파싱 실패: {}", payload, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.inkcloud.review_service.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.inkcloud.review_service.repository.ReviewSearchIndex;
+import com.inkcloud.review_service.repository.ReviewShards;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 기동 후 review 테이블을 id 순 청크 스캔으로 읽어 검색 색인을 만든다 (색인이 준비되기 전 검색은 LIKE 로 처리)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewSearchIndexLoader {
+
+    private static final String CHUNK_SQL =
+            "SELECT id, product_name, comment, email FROM review WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReviewSearchIndex reviewSearchIndex;
+    private final ReviewShards reviewShards;
+    private final ReviewSearchIndexFeed reviewSearchIndexFeed;
+
+    @Value("${review.search-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${review.search-index.chunk-size:5000}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("리뷰 검색 색인 비활성화 - 관리자 키워드 검색은 LIKE 로 처리");
+            return;
+        }
+        Thread loader = new Thread(this::build, "review-search-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void build() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            // 구독을 먼저 시작해 스캔 도중의 변경이 실시간 반영으로 들어오게 한다 (스캔 값이 덮어쓰지 않음)
+            reviewSearchIndexFeed.subscribeFromNow();
+            reviewShards.forEachShard(shard -> scan());
+            reviewSearchIndex.markReady();
+            log.info("리뷰 검색 색인 완료: reviews={}, elapsed={}ms",
+                    reviewSearchIndex.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("리뷰 검색 색인 실패 - 관리자 키워드 검색은 LIKE 로 처리", e);
+        }
+    }
+
+    // 현재 샤드의 review 테이블 청크 스캔
+    private void scan() {
+        long after = 0L;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(CHUNK_SQL, after, chunkSize);
+            for (Map<String, Object> row : rows) {
+                reviewSearchIndex.load(((Number) row.get("id")).longValue(),
+                        (String) row.get("product_name"), (String) row.get("comment"), (String) row.get("email"));
+            }
+            if (rows.size() < chunkSize) {
+                break;
+            }
+            after = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.inkcloud.review_service.service;
 
+import com.inkcloud.review_service.dto.ReviewCursorPageDto;
 import com.inkcloud.review_service.dto.ReviewDto;
 import com.inkcloud.review_service.dto.ReviewLikeDto;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.Map;
 
 public interface ReviewService {
 
@@ -15,6 +18,12 @@ public interface ReviewService {
     // 책 ID로 리뷰 리스트 조회
     List<ReviewDto> getReviewsByProductId(Long productId);
 
+    // 책 ID로 조회한 리뷰 리스트의 ETag (조건부 GET 용, 상품별 목록 버전 - 목록을 읽기 전에 비교)
+    String getReviewsEtag(Long productId);
+
+    // 책 ID로 리뷰 커서 페이지 조회 (sort: newest, rating, likeCount)
+    ReviewCursorPageDto getReviewsByProductIdWithCursor(Long productId, String sort, String cursor, int size);
+
     //책 ID + 회원 이메리일로 뷰 리스트(좋아요 여부 포함) 조회
     List<ReviewDto> getReviewsWithLikes(Long productId, String email);
 
@@ -29,17 +38,25 @@ public interface ReviewService {
             int page, int size, String keyword, String startDate, String endDate, Integer minRating, Integer maxRating
     );
 
+    // 전체 리뷰 검색-관리자 (count 없는 무한 스크롤)
+    Slice<ReviewDto> getAllReviewsWithFilterSlice(
+            int page, int size, String keyword, String startDate, String endDate, Integer minRating, Integer maxRating
+    );
+
     // 리뷰 수정 
     void updateReview(Long reviewId, ReviewDto reviewDto, String email);
 
     // 리뷰 삭제
     void deleteReviews(List<Long> reviewIds, String email, List<String> roles);
 
-    //리뷰 좋아요 
-    void likesReview(Long reviewId, String email);
+    //리뷰 좋아요 (이미 누른 경우 변경 없이 false)
+    boolean likesReview(Long reviewId, String email);
+
+    //리뷰 좋아요 취소 (누른 적 없는 경우 변경 없이 false)
+    boolean cancelLikesReview(Long reviewId, String email);
 
-    //리뷰 좋아요 취소 
-    void cancelLikesReview(Long reviewId, String email);
+    // 상품명 변경 반영 (상품 ID -> 새 이름), 바뀐 리뷰 행 수 반환
+    int renameProducts(Map<Long, String> productNames);
 
 
     // 상품 ID로 평균 평점 조회
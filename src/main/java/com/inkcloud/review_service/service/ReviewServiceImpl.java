@@ -1,12 +1,28 @@
 package com.inkcloud.review_service.service;
 
 import com.inkcloud.review_service.domain.Review;
-import com.inkcloud.review_service.domain.ReviewLike;
+import com.inkcloud.review_service.dto.ReviewCursorPageDto;
 import com.inkcloud.review_service.dto.ReviewDto;
 import com.inkcloud.review_service.dto.ReviewEventDto;
+import com.inkcloud.review_service.dto.ReviewIndexEventDto;
+import com.inkcloud.review_service.repository.CountCache;
+import com.inkcloud.review_service.repository.ProductReviewVersionRepository;
+import com.inkcloud.review_service.repository.RecentWrites;
+import com.inkcloud.review_service.repository.ReviewDeleteView;
+import com.inkcloud.review_service.repository.ReviewIdAllocator;
 import com.inkcloud.review_service.repository.ReviewLikeRepository;
+import com.inkcloud.review_service.repository.ReviewReportRepository;
+import com.inkcloud.review_service.dto.ReviewSortType;
 import com.inkcloud.review_service.repository.ReviewRepository;
+import com.inkcloud.review_service.repository.ReviewShards;
+import com.inkcloud.review_service.repository.ShardContext;
+import com.inkcloud.review_service.repository.ShardedReviewQueries;
+import com.inkcloud.review_service.repository.ReviewWriteQueries;
+import com.inkcloud.review_service.util.Chunks;
+import com.inkcloud.review_service.util.LongHashSet;
+import com.inkcloud.review_service.util.ReviewCursor;
 import com.inkcloud.review_service.util.ReviewMapper;
+import com.inkcloud.review_service.util.TransactionHooks;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,16 +30,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.springframework.security.access.AccessDeniedException;
 
@@ -33,11 +53,34 @@ import org.springframework.security.access.AccessDeniedException;
 @Transactional
 public class ReviewServiceImpl implements ReviewService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int DELETE_CHUNK_SIZE = 500;
+    private static final int RENAME_CHUNK_SIZE = 200;
+    // 상품당 한 문장 (이미 새 이름인 행은 건드리지 않아 재전송된 메시지는 아무 행도 바꾸지 않는다)
+    // 컬럼 콜레이션이 대소문자를 구분하지 않으므로 BINARY 로 비교해야 대소문자만 바뀐 이름도 반영된다
+    private static final String RENAME_SQL = "UPDATE review SET product_name = ? WHERE product_id = ? AND BINARY product_name <> ?";
+    private static final int REINDEX_CHUNK_SIZE = 1000;
+    private static final String REINDEX_SQL =
+            "SELECT id, product_name, comment, email FROM review WHERE product_id = ? AND id > ? ORDER BY id LIMIT ?";
+
     private final ReviewRepository reviewRepository;
     private final ReviewLikeRepository reviewLikeRepository;
+    private final ReviewReportRepository reviewReportRepository;
     private final ReviewMapper reviewMapper;
-
-    private final KafkaTemplate<String, ReviewEventDto> kafkaTemplate;
+    private final ProductRatingSummaryService productRatingSummaryService;
+
+    private final OutboxService outboxService;
+    private final LikeCountBuffer likeCountBuffer;
+    private final LikeStateCache likeStateCache;
+    private final ReviewSearchIndexFeed reviewSearchIndexFeed;
+    private final CountCache countCache;
+    private final ProductReviewCache productReviewCache;
+    private final ReviewShards reviewShards;
+    private final ShardedReviewQueries shardedReviewQueries;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReviewWriteQueries reviewWriteQueries;
+    private final ReviewIdAllocator reviewIdAllocator;
+    private final ProductReviewVersionRepository productReviewVersionRepository;
 
     @Value("${kafka.topic.review-rating-update:review-rating-update}")
     private String reviewRatingUpdateTopic;
@@ -47,57 +90,111 @@ public class ReviewServiceImpl implements ReviewService {
     //리뷰 작성 
     @Override
     public boolean createReview(ReviewDto reviewDto, String email) {
-        Optional<Review> existing = reviewRepository.findByProductIdAndEmail(reviewDto.getProductId(), email);
-        if (existing.isPresent()) {
+        reviewShards.bindProduct(reviewDto.getProductId());
+        reviewDto.setEmail(email); 
+        Review review = reviewMapper.dtoToEntity(reviewDto);
+        review.setId(reviewIdAllocator.nextIdForProduct(ReviewIdAllocator.REVIEW, review.getProductId()));
+        review.setCreatedAt(LocalDateTime.now()); // 작성 시각은 서버에서 정한다
+        review.setUpdatedAt(null);
+        // (상품, 작성자) 유니크 키로 중복 확인 - 먼저 조회하지 않으므로 동시 중복 요청도 하나만 저장된다
+        if (!reviewWriteQueries.insert(review)) {
             // 이미 작성한 리뷰가있으면 false 반환
-            reviewDto.setId(existing.get().getId());
+            reviewDto.setId(reviewRepository.findIdByProductIdAndEmail(reviewDto.getProductId(), email).orElse(null));
             return false;
         }
-        reviewDto.setEmail(email); 
-        Review review = reviewMapper.dtoToEntity(reviewDto);
-        reviewRepository.save(review);
+        reviewDto.setId(review.getId());
+        productReviewVersionRepository.bump(review.getProductId());
+        indexAfterCommit(review);
 
         // 카프카 메시지 전송
         ReviewEventDto event = new ReviewEventDto("created", review.getProductId(), review.getRating(), null);
         log.info("카프카 메시지 전송 완료: {}", event);
-        sendRatingUpdateMessage(event);
+        publishRatingEvent(event);
         return true;
     }
 
-    // 책 ID로 리뷰 리스트 조회
+    // 책 ID로 리뷰 리스트 조회 - 상품별 캐시에서 읽고, 캐시 적중시 트랜잭션/커넥션 없이 응답
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ReviewDto> getReviewsByProductId(Long productId) {
-        List<Review> reviews = reviewRepository.findAllByProductId(productId);
+        reviewShards.bindProduct(productId);
+        List<ReviewDto> reviews = productReviewCache.get(productId, () -> reviewRepository.findDtosByProductId(productId));
+        // 캐시된 DTO 는 공유되므로 복사본에 미반영 좋아요 증감을 더한다
         return reviews.stream()
-                .map(reviewMapper::entityToDto)
+                .map(dto -> dto.toBuilder().likeCount(likeCountBuffer.withPending(dto.getId(), dto.getLikeCount())).build())
                 .toList();
     }
 
+    // 책 ID로 조회한 리뷰 리스트의 ETag - DB 에 저장된 상품별 목록 버전 (어느 노드가 응답해도 같은 값, 리뷰 테이블은 읽지 않음)
+    // 응답의 좋아요 수에는 이 노드의 미반영 증감이 더해질 수 있어 약한(W/) ETag - 증감은 반영 주기마다 버전을 올린다
+    // 방금 무효화된 상품은 primary 에서 읽어, 복제 지연된 옛 버전으로 304 를 내보내지 않는다
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String getReviewsEtag(Long productId) {
+        reviewShards.bindProduct(productId);
+        long version = RecentWrites.readingFor(RecentWrites.productKey(productId),
+                () -> productReviewVersionRepository.findVersion(productId).orElse(0L));
+        return "W/\"" + productId + "-" + version + "\"";
+    }
 
+    // 책 ID로 리뷰 커서 페이지 조회 - 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+    @Override
+    @Transactional(readOnly = true)
+    public ReviewCursorPageDto getReviewsByProductIdWithCursor(Long productId, String sort, String cursor, int size) {
+        reviewShards.bindProduct(productId);
+        ReviewSortType sortType = ReviewSortType.from(sort);
+        ReviewCursor after = (cursor == null || cursor.isBlank()) ? null : ReviewCursor.decode(cursor, sortType);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        // 캐시를 거치지 않는 조회 - 좋아요 수 반영 직후에는 primary 로 (복제본의 이전 값 + 비워진 미반영 증감으로 수가 줄어 보이지 않게)
+        List<ReviewDto> reviews = RecentWrites.readingFor(RecentWrites.productKey(productId),
+                () -> reviewRepository.findByProductIdWithCursor(productId, sortType, after, pageSize + 1));
+
+        boolean hasNext = reviews.size() > pageSize;
+        List<ReviewDto> page = hasNext ? reviews.subList(0, pageSize) : reviews;
+        // 커서는 DB 에 저장된 정렬값 기준 (미반영 좋아요 증감은 커서 계산 후에 더한다)
+        String nextCursor = hasNext ? ReviewCursor.of(sortType, page.get(page.size() - 1)).encode() : null;
+        page.forEach(this::applyPendingLikes);
+
+        return ReviewCursorPageDto.builder()
+                .content(page)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
 
     //책 ID + 회원 이메일로 리뷰 리스트(좋아요 여부 포함) 조회
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ReviewDto> getReviewsWithLikes(Long productId, String email) {
-        // 1. 해당 책의 모든 리뷰 조회
-        List<Review> reviews = reviewRepository.findAllByProductId(productId);
+        reviewShards.bindProduct(productId);
+        // 1. 해당 책의 모든 리뷰 조회 (상품별 캐시 공유)
+        List<ReviewDto> reviews = productReviewCache.get(productId, () -> reviewRepository.findDtosByProductId(productId));
+        if (reviews.isEmpty()) {
+            return List.of();
+        }
 
-        // 2. 사용자가 좋아요한 리뷰 ID 목록 조회
-        List<Long> likedReviewIds = reviewLikeRepository.findAllByEmail(email).stream()
-                .map(like -> like.getReview().getId())
-                .toList();
+        // 2. 이 책의 리뷰 중 사용자가 좋아요한 리뷰 ID 만 조회 (사용자별 캐시)
+        LongHashSet likedReviewIds = likeStateCache.get(email, productId,
+                () -> LongHashSet.of(reviewLikeRepository.findLikedReviewIds(email, productId)));
 
-        // 3. 각 리뷰를 ReviewDto로 변환하면서 likedByMe 필드 세팅
+        // 3. 캐시된 DTO 의 복사본에 likedByMe 필드 세팅
+        return mergeLikeState(reviews, likedReviewIds, likeCountBuffer);
+    }
+
+    // 캐시 DTO 는 공유되므로 복사본에 미반영 좋아요 수와 likedByMe 를 합친다 (JMH 벤치마크에서도 사용)
+    static List<ReviewDto> mergeLikeState(List<ReviewDto> reviews, LongHashSet likedReviewIds, LikeCountBuffer likeCountBuffer) {
         return reviews.stream()
-                .map(review -> {
-                    ReviewDto dto = reviewMapper.entityToDto(review);
-                    dto.setLikedByMe(likedReviewIds.contains(review.getId()));
-                    return dto;
-                })
+                .map(dto -> dto.toBuilder()
+                        .likeCount(likeCountBuffer.withPending(dto.getId(), dto.getLikeCount()))
+                        .likedByMe(likedReviewIds.contains(dto.getId()))
+                        .build())
                 .toList();
     }
 
     // 회원 이메일로 리뷰 리스트 조회
     @Override
+    @Transactional(readOnly = true)
     public List<ReviewDto> getReviewsByEmail(String email, String period) {
 
         LocalDate today = LocalDate.now();
@@ -113,16 +210,18 @@ public class ReviewServiceImpl implements ReviewService {
         }
         LocalDateTime start = startDate.atStartOfDay();
         LocalDateTime end = today.plusDays(1).atStartOfDay().minusNanos(1); // 오늘 23:59:59.999999999
-        List<Review> reviews = reviewRepository.findByEmailAndCreatedAtBetween(email, start, end);
-        return reviews.stream()
-                .map(reviewMapper::entityToDto)
-                .toList();
+        List<ReviewDto> reviews = RecentWrites.readingFor(RecentWrites.authorKey(email),
+                () -> shardedReviewQueries.findDtosByEmailAndCreatedAtBetween(email, start, end));
+        reviews.forEach(this::applyPendingLikes);
+        return reviews;
     }
 
     //리뷰 상세 조회
     @Override
+    @Transactional(readOnly = true)
     public ReviewDto getReviewDetail(Long reviewId, String email) {
-        Review review = reviewRepository.findById(reviewId)
+        reviewShards.bindReview(reviewId);
+        ReviewDto review = RecentWrites.readingFor(RecentWrites.reviewKey(reviewId), () -> reviewRepository.findDtoById(reviewId))
                 .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
 
         // email이 null 또는 빈 값이면(관리자) 본인 체크 생략
@@ -131,119 +230,268 @@ public class ReviewServiceImpl implements ReviewService {
                 throw new AccessDeniedException("본인 리뷰만 조회할 수 있습니다.");
             }
         }
-        return reviewMapper.entityToDto(review);
+        return applyPendingLikes(review);
     }
 
-    // 리뷰 수정 (내용, 별점만)
+    // 리뷰 수정 (내용, 별점만) - 소유자 확인과 이전 평점 확인을 UPDATE 한 문장으로 (바뀐 컬럼만 SET)
     @Override
     public void updateReview(Long reviewId, ReviewDto reviewDto, String email) {
-        Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
-
-        if (!review.getEmail().equals(email)) {
-            throw new IllegalArgumentException("본인 리뷰만 수정할 수 있습니다.");
+        reviewShards.bindReview(reviewId);
+        if (reviewDto.getComment() == null && reviewDto.getRating() == null) {
+            // 바꿀 내용이 없으면 존재/권한만 확인
+            if (!reviewRepository.existsByIdAndEmail(reviewId, email)) {
+                throw updateFailure(reviewId);
+            }
+            return;
         }
+        ReviewWriteQueries.UpdatedReview updated = reviewWriteQueries
+                .updateOwned(reviewId, email, reviewDto.getComment(), reviewDto.getRating())
+                .orElseThrow(() -> updateFailure(reviewId));
 
-        // 코멘트만 변경된 경우
+        // 코멘트가 변경된 경우 - 검색 색인 갱신
+        Long productId = updated.productId();
+        productReviewVersionRepository.bump(productId);
         if (reviewDto.getComment() != null) {
-            review.setComment(reviewDto.getComment());
-            reviewRepository.save(review);
+            reviewSearchIndexFeed.upsert(reviewId, updated.productName(), reviewDto.getComment(), email);
         }
+        TransactionHooks.afterCommit(() -> {
+            countCache.invalidate(CountCache.REVIEW);
+            productReviewCache.invalidate(productId);
+        });
 
         // 평점이 변경된 경우
-        if (reviewDto.getRating() != null && !reviewDto.getRating().equals(review.getRating())) {
-            int oldRating = review.getRating();
-            review.setRating(reviewDto.getRating());
-            reviewRepository.save(review);
-
-            ReviewEventDto event = new ReviewEventDto("updated", review.getProductId(), reviewDto.getRating(), oldRating);
+        if (reviewDto.getRating() != null && reviewDto.getRating() != updated.oldRating()) {
+            ReviewEventDto event = new ReviewEventDto("updated", productId, reviewDto.getRating(), updated.oldRating());
             log.info("리뷰 수정 - 카프카 메시지 전송: {}", event);
-            sendRatingUpdateMessage(event);
+            publishRatingEvent(event);
         }
     }
 
+    // 수정 대상이 없을 때 - 실패한 경우에만 어느 쪽인지 확인
+    private IllegalArgumentException updateFailure(Long reviewId) {
+        return reviewRepository.existsById(reviewId)
+                ? new IllegalArgumentException("본인 리뷰만 수정할 수 있습니다.")
+                : new IllegalArgumentException("리뷰를 찾을 수 없습니다.");
+    }
+
 
 
-    // 리뷰 삭제 (여러 개 또는 하나 삭제 가능)
+    // 리뷰 삭제 (여러 개 또는 하나 삭제 가능) - 권한 확인 1회 + 자식/부모 행을 IN 청크 단위로 일괄 삭제
     @Override
     public void deleteReviews(List<Long> reviewIds, String email, List<String> roles) {
         boolean isAdmin = roles != null && roles.contains("ADMIN");
+        List<Long> ids = reviewIds.stream().distinct().toList();
+        Map<Integer, List<Long>> byShard = reviewShards.groupReviewIds(ids);
+        if (byShard.size() <= 1) {
+            byShard.keySet().forEach(ShardContext::bind);
+            deleteReviewsOnShard(ids, email, isAdmin);
+            return;
+        }
+        // 여러 샤드에 걸친 삭제 - 모든 샤드에서 권한을 먼저 확인한 뒤 샤드별 트랜잭션으로 삭제 (샤드 간 원자성은 없음)
+        byShard.forEach((shard, shardIds) -> reviewShards.inNewTransaction(shard, () -> findDeletable(shardIds, email, isAdmin)));
+        byShard.forEach((shard, shardIds) -> reviewShards.inNewTransaction(shard, () -> {
+            deleteReviewsOnShard(shardIds, email, isAdmin);
+            return null;
+        }));
+    }
 
-        for (Long reviewId : reviewIds) {
-            Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
-
-            boolean isOwner = review.getEmail().equals(email);
+    // 삭제 대상 조회 + 존재/권한 확인
+    private List<ReviewDeleteView> findDeletable(List<Long> ids, String email, boolean isAdmin) {
+        List<List<Long>> chunks = Chunks.of(ids, DELETE_CHUNK_SIZE);
 
-            if (!isOwner && !isAdmin) {
-                throw new IllegalArgumentException("본인 또는 관리자만 삭제할 수 있습니다.");
-            }
+        List<ReviewDeleteView> targets = new ArrayList<>(ids.size());
+        for (List<Long> chunk : chunks) {
+            targets.addAll(reviewRepository.findDeleteViewsByIdIn(chunk));
+        }
+        if (targets.size() != ids.size()) {
+            throw new IllegalArgumentException("리뷰를 찾을 수 없습니다.");
+        }
+        if (!isAdmin && targets.stream().anyMatch(target -> !target.getEmail().equals(email))) {
+            throw new IllegalArgumentException("본인 또는 관리자만 삭제할 수 있습니다.");
+        }
+        return targets;
+    }
 
-            //카프카 메세지 전송
-            ReviewEventDto event = new ReviewEventDto("deleted",review.getProductId(), null ,review.getRating()); // 삭제이므로 oldRating에 기존 평점 전달
-            log.info("리뷰 삭제 - 카프카 메시지 전송: {}", event);
-            sendRatingUpdateMessage(event);
+    private void deleteReviewsOnShard(List<Long> ids, String email, boolean isAdmin) {
+        List<ReviewDeleteView> targets = findDeletable(ids, email, isAdmin);
 
-            reviewRepository.delete(review);
+        for (List<Long> chunk : Chunks.of(ids, DELETE_CHUNK_SIZE)) {
+            reviewLikeRepository.deleteAllByReviewIdIn(chunk);
+            reviewReportRepository.deleteAllByReviewIdIn(chunk);
+            reviewRepository.deleteAllByIdIn(chunk);
         }
+        reviewSearchIndexFeed.removeAll(ids);
+        List<Long> productIds = targets.stream().map(ReviewDeleteView::getProductId).distinct().toList();
+        productReviewVersionRepository.bumpAll(productIds);
+        TransactionHooks.afterCommit(() -> {
+            countCache.invalidate(CountCache.REVIEW);
+            countCache.invalidate(CountCache.REPORT);
+            productReviewCache.invalidate(productIds);
+        });
+
+        //카프카 메세지 전송 - 삭제이므로 oldRating에 기존 평점 전달
+        List<ReviewEventDto> events = targets.stream()
+                .map(target -> new ReviewEventDto("deleted", target.getProductId(), null, target.getRating()))
+                .toList();
+        log.info("리뷰 삭제 - 카프카 메시지 전송: count={}", events.size());
+        publishRatingEvents(events);
     }
 
     // 전체 리뷰 조회 + 필터링 (관리자)
     @Override
+    @Transactional(readOnly = true)
     public Page<ReviewDto> getAllReviewsWithFilter(
             int page, int size, String keyword, String startDate, String endDate, Integer minRating, Integer maxRating) {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return reviewRepository.searchReviews(keyword, startDate, endDate, minRating, maxRating, pageable);
+        // 복제본에서 조회 - count 캐시는 쓰기 후 무효화되고, 복제 지연으로 옛 값이 캐시되어도 TTL(review.count-cache.ttl-ms) 동안만 남는다
+        Page<ReviewDto> reviews = shardedReviewQueries.searchReviews(keyword, startDate, endDate, minRating, maxRating, pageable);
+        reviews.forEach(this::applyPendingLikes);
+        return reviews;
     }
 
-    // 리뷰 작성/수정/삭제시, 카프카로 메시지 전송
-    private void sendRatingUpdateMessage(ReviewEventDto reviewEventDto) {
-        kafkaTemplate.send("review-rating-update", reviewEventDto);
+    // 관리자 검색 색인 변경은 같은 트랜잭션으로 발행, 캐시는 커밋 후 무효화
+    private void indexAfterCommit(Review review) {
+        reviewSearchIndexFeed.upsert(review.getId(), review.getProductName(), review.getComment(), review.getEmail());
+        Long productId = review.getProductId();
+        TransactionHooks.afterCommit(() -> {
+            countCache.invalidate(CountCache.REVIEW);
+            productReviewCache.invalidate(productId);
+        });
     }
 
-    //리뷰 좋아요
+    // 전체 리뷰 조회 + 필터링 (관리자, count 없는 무한 스크롤)
     @Override
-    public void likesReview(Long reviewId, String email) {
+    @Transactional(readOnly = true)
+    public Slice<ReviewDto> getAllReviewsWithFilterSlice(
+            int page, int size, String keyword, String startDate, String endDate, Integer minRating, Integer maxRating) {
 
-    Review review = reviewRepository.findById(reviewId)
-        .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Slice<ReviewDto> reviews = shardedReviewQueries.searchReviewsSlice(keyword, startDate, endDate, minRating, maxRating, pageable);
+        reviews.forEach(this::applyPendingLikes);
+        return reviews;
+    }
 
-    // 이미 좋아요를 눌렀는지 확인
-    boolean alreadyLiked = reviewLikeRepository.existsByReviewIdAndEmail(reviewId, email);
-    if (alreadyLiked) {
-        throw new IllegalStateException("이미 좋아요를 누른 리뷰입니다.");
+    // 조회한 DTO 의 좋아요 수에 아직 반영되지 않은 증감을 합산
+    private ReviewDto applyPendingLikes(ReviewDto dto) {
+        dto.setLikeCount(likeCountBuffer.withPending(dto.getId(), dto.getLikeCount()));
+        return dto;
     }
 
-    // 좋아요 추가
-    ReviewLike reviewLike = ReviewLike.builder()
-        .review(review)
-        .email(email)
-        .createdAt(LocalDateTime.now())
-        .build();
+    // 리뷰 작성/수정/삭제시, 같은 트랜잭션에서 평점 집계를 갱신하고 카프카로 메시지 전송
+    private void publishRatingEvent(ReviewEventDto reviewEventDto) {
+        productRatingSummaryService.applyEvent(reviewEventDto);
+        sendRatingUpdateMessage(reviewEventDto);
+    }
 
-    reviewLikeRepository.save(reviewLike);
+    // 일괄 삭제시, 평점 집계는 상품별로 합쳐 반영하고 이벤트는 한 번에 아웃박스에 저장
+    private void publishRatingEvents(List<ReviewEventDto> reviewEventDtos) {
+        productRatingSummaryService.applyEvents(reviewEventDtos);
+        outboxService.appendAll(reviewRatingUpdateTopic, reviewEventDtos, event -> String.valueOf(event.getProductId()));
+    }
 
-    // likeCount 증가
-    review.setLikeCount(review.getLikeCount() + 1);
-    reviewRepository.save(review);
+    // 리뷰 작성/수정/삭제시, 아웃박스에 저장 (커밋 후 릴레이가 productId 키로 카프카에 발행)
+    private void sendRatingUpdateMessage(ReviewEventDto reviewEventDto) {
+        outboxService.append(reviewRatingUpdateTopic, String.valueOf(reviewEventDto.getProductId()), reviewEventDto);
     }
 
-    //리뷰 좋아요 취소 
+    //리뷰 좋아요 - 조건부 단일 INSERT, 이미 누른 좋아요면 변경 없이 false (멱등)
     @Override
-    public void cancelLikesReview(Long reviewId, String email) {
+    public boolean likesReview(Long reviewId, String email) {
+        reviewShards.bindReview(reviewId);
+        // 키 중복만 이미 누른 좋아요로 보고, 잘림/외래 키 등 다른 오류는 그대로 실패한다 (INSERT IGNORE 와 달리)
+        if (!reviewWriteQueries.insertLikeIfAbsent(reviewId, email)) {
+            // 중복 요청이 아니라 리뷰 자체가 없는 경우만 예외 (변경이 없을 때만 확인)
+            if (!reviewRepository.existsById(reviewId)) {
+                throw new IllegalArgumentException("리뷰를 찾을 수 없습니다.");
+            }
+            return false;
+        }
+        // likeCount 증가 - 커밋 후 write-behind 카운터에 누적 (주기적으로 원자적 UPDATE 로 반영)
+        TransactionHooks.afterCommit(() -> {
+            likeCountBuffer.increment(reviewId);
+            likeStateCache.invalidate(email);
+        });
+        return true;
+    }
 
-    Review review = reviewRepository.findById(reviewId)
-        .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
+    //리뷰 좋아요 취소 - 조건부 단일 DELETE, 누른 적 없는 좋아요면 변경 없이 false (멱등)
+    @Override
+    public boolean cancelLikesReview(Long reviewId, String email) {
+        reviewShards.bindReview(reviewId);
+        int deleted = reviewLikeRepository.deleteByReviewIdAndEmail(reviewId, email);
+        if (deleted == 0) {
+            return false;
+        }
+        // likeCount 감소 (0 이하로 내려가지 않게 반영 시 GREATEST 처리)
+        TransactionHooks.afterCommit(() -> {
+            likeCountBuffer.decrement(reviewId);
+            likeStateCache.invalidate(email);
+        });
+        return true;
+    }
 
-    // 좋아요 엔티티 찾기
-    ReviewLike reviewLike = reviewLikeRepository.findByReviewAndEmail(review, email)
-        .orElseThrow(() -> new IllegalStateException("좋아요를 누른 적이 없습니다."));
+    // 상품명 변경 반영 - 샤드별로 상품을 묶어 청크마다 새 트랜잭션에서 상품당 UPDATE 한 문장 (행 단위 UPDATE 없음)
+    // 샤드 간/청크 간 원자성은 없지만 같은 메시지를 다시 처리해도 결과가 같다
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int renameProducts(Map<Long, String> productNames) {
+        Map<Integer, List<Long>> byShard = new TreeMap<>();
+        for (Long productId : productNames.keySet()) {
+            byShard.computeIfAbsent(reviewShards.forProduct(productId), shard -> new ArrayList<>()).add(productId);
+        }
+        int updated = 0;
+        for (Map.Entry<Integer, List<Long>> entry : byShard.entrySet()) {
+            for (List<Long> chunk : Chunks.of(entry.getValue(), RENAME_CHUNK_SIZE)) {
+                updated += reviewShards.inNewTransaction(entry.getKey(), () -> renameOnShard(chunk, productNames));
+            }
+        }
+        return updated;
+    }
 
-    reviewLikeRepository.delete(reviewLike);
+    private int renameOnShard(List<Long> productIds, Map<Long, String> productNames) {
+        List<Object[]> rows = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            String name = productNames.get(productId);
+            rows.add(new Object[] { name, productId, name });
+        }
+        int[] counts = jdbcTemplate.batchUpdate(RENAME_SQL, rows);
+
+        // 드라이버가 건수를 모르면(SUCCESS_NO_INFO) 바뀐 것으로 본다
+        List<Long> renamed = new ArrayList<>();
+        int updated = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                renamed.add(productIds.get(i));
+                updated += Math.max(counts[i], 0);
+            }
+        }
+        if (renamed.isEmpty()) {
+            return 0;
+        }
+        // 관리자 검색 색인은 상품명도 색인하므로 바뀐 상품의 리뷰를 다시 색인
+        renamed.forEach(this::reindexProduct);
+        productReviewVersionRepository.bumpAll(renamed);
+        TransactionHooks.afterCommit(() -> {
+            countCache.invalidate(CountCache.REVIEW);
+            productReviewCache.invalidate(renamed);
+        });
+        return updated;
+    }
 
-    // likeCount 감소 (0 이하로 내려가지 않게)
-    review.setLikeCount(Math.max(0, review.getLikeCount() - 1));
-    reviewRepository.save(review);
+    // 상품의 리뷰를 ID 키셋 청크로 읽어 색인 변경 발행 (인기 상품도 한 번에 메모리에 올리지 않음)
+    private void reindexProduct(Long productId) {
+        long after = 0L;
+        while (true) {
+            List<ReviewIndexEventDto> chunk = jdbcTemplate.query(REINDEX_SQL,
+                    (rs, rowNum) -> new ReviewIndexEventDto(rs.getLong("id"), rs.getString("product_name"),
+                            rs.getString("comment"), rs.getString("email"), false),
+                    productId, after, REINDEX_CHUNK_SIZE);
+            reviewSearchIndexFeed.upsertAll(chunk);
+            if (chunk.size() < REINDEX_CHUNK_SIZE) {
+                return;
+            }
+            after = chunk.get(chunk.size() - 1).getReviewId();
+        }
     }
 }
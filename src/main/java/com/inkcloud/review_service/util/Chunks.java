@@ -0,0 +1,19 @@
+package com.inkcloud.review_service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 리스트를 size 단위로 분할 (IN 절 / 배치 문장 크기 제한용)
+public final class Chunks {
+
+    private Chunks() {
+    }
+
+    public static <T> List<List<T>> of(List<T> values, int size) {
+        List<List<T>> chunks = new ArrayList<>((values.size() + size - 1) / size);
+        for (int from = 0; from < values.size(); from += size) {
+            chunks.add(values.subList(from, Math.min(from + size, values.size())));
+        }
+        return chunks;
+    }
+}
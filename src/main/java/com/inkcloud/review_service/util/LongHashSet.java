@@ -0,0 +1,145 @@
+package com.inkcloud.review_service.util;
+
+import java.util.Collection;
+import java.util.function.LongConsumer;
+
+// long 원시값 해시 셋 (오픈 어드레싱, 선형 탐사) - Long 박싱 없이 contains 가 O(1)
+// 스레드 안전하지 않으므로 공유할 때는 호출하는 쪽에서 동기화한다.
+public final class LongHashSet {
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean containsZero; // 0 은 빈 슬롯 표시로 쓰므로 따로 관리
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public static LongHashSet of(Collection<Long> values) {
+        LongHashSet set = new LongHashSet(values.size());
+        for (Long value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public boolean add(long value) {
+        if (value == 0L) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        if ((size + 1) * 2 > table.length) {
+            resize();
+        }
+        int index = indexOf(value);
+        while (table[index] != 0L) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        size++;
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == 0L) {
+            return containsZero;
+        }
+        int index = indexOf(value);
+        while (table[index] != 0L) {
+            if (table[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean remove(long value) {
+        if (value == 0L) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int index = indexOf(value);
+        while (table[index] != 0L) {
+            if (table[index] == value) {
+                shiftBack(index);
+                size--;
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(0L);
+        }
+        for (long value : table) {
+            if (value != 0L) {
+                action.accept(value);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 대략적인 메모리 사용량 (캐시 가중치용)
+    public long estimatedBytes() {
+        return 16L + table.length * 8L;
+    }
+
+    private int indexOf(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    // 선형 탐사 삭제 - 빈 칸 뒤의 원소 중 원래 자리가 빈 칸 이전인 것을 당겨 탐사 체인을 유지
+    private void shiftBack(int hole) {
+        int index = (hole + 1) & mask;
+        while (table[index] != 0L) {
+            int home = indexOf(table[index]);
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                table[hole] = table[index];
+                hole = index;
+            }
+            index = (index + 1) & mask;
+        }
+        table[hole] = 0L;
+    }
+
+    private void resize() {
+        long[] old = table;
+        table = new long[old.length << 1];
+        mask = table.length - 1;
+        for (long value : old) {
+            if (value != 0L) {
+                int index = indexOf(value);
+                while (table[index] != 0L) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = value;
+            }
+        }
+    }
+}
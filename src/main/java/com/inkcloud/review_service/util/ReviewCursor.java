@@ -0,0 +1,63 @@
+package com.inkcloud.review_service.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.dto.ReviewSortType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 상품별 리뷰 keyset 페이지네이션 커서 - 마지막으로 내려준 리뷰의 (정렬값, created_at, id)
+// 클라이언트에는 Base64(URL-safe) 로 인코딩한 불투명 토큰으로만 노출한다.
+@Getter
+@AllArgsConstructor
+public class ReviewCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final ReviewSortType sort;
+    private final int sortValue;            // RATING: 평점, LIKE_COUNT: 좋아요 수, NEWEST: 사용하지 않음(0)
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static ReviewCursor of(ReviewSortType sort, ReviewDto review) {
+        int sortValue = switch (sort) {
+            case RATING -> review.getRating();
+            case LIKE_COUNT -> review.getLikeCount();
+            case NEWEST -> 0;
+        };
+        return new ReviewCursor(sort, sortValue, review.getCreatedAt(), review.getId());
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + sortValue + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 토큰 디코딩, 형식이 잘못되었거나 요청한 정렬 기준과 다르면 IllegalArgumentException
+    public static ReviewCursor decode(String token, ReviewSortType expectedSort) {
+        ReviewCursor cursor = parse(token);
+        if (cursor.getSort() != expectedSort) {
+            throw new IllegalArgumentException("커서의 정렬 기준이 요청과 다릅니다.");
+        }
+        return cursor;
+    }
+
+    private static ReviewCursor parse(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new ReviewCursor(ReviewSortType.valueOf(parts[0]), Integer.parseInt(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.inkcloud.review_service.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// 요청 단위 Hibernate SQL 통계 - begin 과 end 사이에 현재 스레드에서 준비된 문장 수, 같은 문장 반복 횟수, JDBC 실행 시간
+// 구간은 중첩할 수 있고 안쪽 구간의 통계는 바깥 구간에도 더해진다 (테스트에서 요청 전체를 감싸 측정할 때).
+// JdbcTemplate 으로 직접 실행하는 문장과 다른 스레드(샤드 scatter)에서 실행된 문장은 포함되지 않는다.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    public static void begin() {
+        CURRENT.set(new Stats(CURRENT.get()));
+    }
+
+    public static Stats end() {
+        Stats stats = CURRENT.get();
+        if (stats == null) {
+            return new Stats(null);
+        }
+        if (stats.parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(stats.parent);
+        }
+        return stats;
+    }
+
+    // SqlTimingListener 에서 호출
+    static void addJdbcTime(long nanos) {
+        for (Stats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.jdbcNanos += nanos;
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        for (Stats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.statements++;
+            stats.repeats.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    public static final class Stats {
+
+        private final Stats parent;
+        private final Map<String, Integer> repeats = new HashMap<>();
+        private int statements;
+        private long jdbcNanos;
+
+        private Stats(Stats parent) {
+            this.parent = parent;
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        public long jdbcNanos() {
+            return jdbcNanos;
+        }
+
+        // 같은 SQL 이 가장 많이 반복된 횟수 (N+1 이면 행 수만큼 커진다)
+        public int maxRepeats() {
+            return repeats.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+
+        public String mostRepeatedSql() {
+            return repeats.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.inkcloud.review_service.util;
+
+import org.hibernate.BaseSessionEventListener;
+
+// 세션별 JDBC 실행 시간 - 문장/배치 실행 시간을 현재 요청의 SqlStatementCounter 통계에 더한다
+// hibernate.session.events.auto 로 세션마다 새로 만들어지므로 필드는 스레드 하나에서만 쓰인다.
+public class SqlTimingListener extends BaseSessionEventListener {
+
+    private long statementStart = -1;
+    private long batchStart = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        if (statementStart >= 0) {
+            SqlStatementCounter.addJdbcTime(System.nanoTime() - statementStart);
+            statementStart = -1;
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        if (batchStart >= 0) {
+            SqlStatementCounter.addJdbcTime(System.nanoTime() - batchStart);
+            batchStart = -1;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.inkcloud.review_service.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+// 가상 스레드 생성 도우미 (JDK 21)
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    // 이름이 prefix-0, prefix-1 ... 로 붙는 가상 스레드 팩토리
+    public static ThreadFactory factory(String namePrefix) {
+        return Thread.ofVirtual().name(namePrefix + "-", 0L).factory();
+    }
+
+    // 작업마다 가상 스레드를 하나씩 띄우는 실행기
+    public static ExecutorService newPerTaskExecutor(String namePrefix) {
+        return Executors.newThreadPerTaskExecutor(factory(namePrefix));
+    }
+}
@@ -0,0 +1,124 @@
+package com.inkcloud.review_service.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inkcloud.review_service.repository.RecentWrites;
+import com.inkcloud.review_service.repository.ShardContext;
+
+// 내장 H2 두 개(primary, replica)로 라우팅 확인
+class ReplicaRoutingDataSourceTest {
+
+	private final AtomicReference<String> currentUser = new AtomicReference<>();
+	private final RecentWrites recentWrites = new RecentWrites(60_000);
+	private ReplicaRoutingDataSource routing;
+	private ShardRoutingDataSource shardRouting;
+
+	@AfterEach
+	void tearDown() {
+		if (routing != null) {
+			routing.close();
+		}
+		if (shardRouting != null) {
+			shardRouting.close();
+		}
+	}
+
+	@Test
+	void readOnlyTransactionsGoToReplica() {
+		JdbcTemplate jdbc = setUp(ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, embedded("primary"), embedded("replica"));
+
+		assertThat(read(jdbc, true)).isEqualTo("replica");
+		assertThat(read(jdbc, false)).isEqualTo("primary");
+	}
+
+	@Test
+	void readsStickToPrimaryAfterOwnWrite() {
+		JdbcTemplate jdbc = setUp(ReplicaRoutingDataSource.Strategy.LATENCY, embedded("primary"), embedded("replica"));
+
+		currentUser.set("writer@inkcloud.com");
+		read(jdbc, false); // 쓰기 트랜잭션
+		assertThat(read(jdbc, true)).isEqualTo("primary");
+
+		currentUser.set("reader@inkcloud.com");
+		assertThat(read(jdbc, true)).isEqualTo("replica");
+	}
+
+	@Test
+	void cacheFillReadsGoToPrimaryOnlyRightAfterInvalidation() {
+		JdbcTemplate jdbc = setUp(ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, embedded("primary"), embedded("replica"));
+		String product = RecentWrites.productKey(1L);
+
+		currentUser.set("reader@inkcloud.com");
+		assertThat(RecentWrites.readingFor(product, () -> read(jdbc, true))).isEqualTo("replica");
+
+		recentWrites.mark(product); // 상품 캐시 무효화
+		assertThat(RecentWrites.readingFor(product, () -> read(jdbc, true))).isEqualTo("primary");
+		assertThat(RecentWrites.readingFor(RecentWrites.productKey(2L), () -> read(jdbc, true))).isEqualTo("replica");
+		assertThat(read(jdbc, true)).isEqualTo("replica"); // 읽은 사용자는 고정되지 않는다
+	}
+
+	@Test
+	void eachShardReadsFromItsOwnReplicas() {
+		Map<Object, Object> shards = new HashMap<>();
+		for (int shard = 0; shard < 2; shard++) {
+			Map<String, DataSource> replicas = new LinkedHashMap<>();
+			replicas.put("shard-" + shard + "-replica-0", embedded("replica-" + shard));
+			shards.put(shard, new ReplicaRoutingDataSource(embedded("primary-" + shard), replicas,
+					ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, recentWrites, currentUser::get));
+		}
+		shardRouting = new ShardRoutingDataSource();
+		shardRouting.setTargetDataSources(shards);
+		shardRouting.setLenientFallback(false);
+		shardRouting.afterPropertiesSet();
+		JdbcTemplate jdbc = new JdbcTemplate(new LazyConnectionDataSourceProxy(shardRouting));
+
+		assertThat(ShardContext.call(1, () -> read(jdbc, true))).isEqualTo("replica-1");
+		assertThat(ShardContext.call(1, () -> read(jdbc, false))).isEqualTo("primary-1");
+		assertThat(ShardContext.call(0, () -> read(jdbc, true))).isEqualTo("replica-0");
+	}
+
+	@Test
+	void fallsBackToPrimaryWhenReplicaIsDown() {
+		DriverManagerDataSource down = new DriverManagerDataSource("jdbc:h2:tcp://127.0.0.1:1/unreachable");
+		JdbcTemplate jdbc = setUp(ReplicaRoutingDataSource.Strategy.ROUND_ROBIN, embedded("primary"), down);
+
+		routing.checkHealth(1);
+		assertThat(read(jdbc, true)).isEqualTo("primary");
+	}
+
+	private JdbcTemplate setUp(ReplicaRoutingDataSource.Strategy strategy, DataSource primary, DataSource replica) {
+		Map<String, DataSource> replicas = new LinkedHashMap<>();
+		replicas.put("replica-0", replica);
+		routing = new ReplicaRoutingDataSource(primary, replicas, strategy, recentWrites, currentUser::get);
+		return new JdbcTemplate(new LazyConnectionDataSourceProxy(routing));
+	}
+
+	private String read(JdbcTemplate jdbc, boolean readOnly) {
+		TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(jdbc.getDataSource()));
+		tx.setReadOnly(readOnly);
+		return tx.execute(status -> jdbc.queryForObject("select name from node", String.class));
+	}
+
+	private DataSource embedded(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("create table node (name varchar(20))");
+		jdbc.update("insert into node values (?)", name);
+		return dataSource;
+	}
+}
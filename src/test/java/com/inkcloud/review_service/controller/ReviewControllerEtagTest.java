@@ -0,0 +1,58 @@
+package com.inkcloud.review_service.controller;
+
+import static com.inkcloud.review_service.support.SqlStatementAssertions.assertThatSql;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.service.ReviewService;
+import com.inkcloud.review_service.support.ReviewIntegrationTest;
+
+// 상품 리뷰 목록 조건부 GET - 같은 버전이면 목록을 읽지 않고 304, 리뷰가 바뀌면 새 ETag 로 200
+@ReviewIntegrationTest
+class ReviewControllerEtagTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Test
+	void notModifiedUntilTheProductsReviewsChange() throws Exception {
+		create(910L, "first@inkcloud.com");
+
+		String etag = mockMvc.perform(get("/api/v1/reviews/products/910"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(etag).isNotBlank();
+
+		// 목록 버전 한 문장만 읽고 본문 없이 304
+		assertThatSql(() -> mockMvc.perform(get("/api/v1/reviews/products/910").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified()))
+				.hasStatements(1);
+
+		create(910L, "second@inkcloud.com");
+
+		String changed = mockMvc.perform(get("/api/v1/reviews/products/910").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(changed).isNotEqualTo(etag);
+	}
+
+	private void create(Long productId, String email) {
+		ReviewDto review = ReviewDto.builder()
+				.productId(productId)
+				.productName("상품 " + productId)
+				.rating(5)
+				.comment("리뷰")
+				.build();
+		reviewService.createReview(review, email);
+	}
+}
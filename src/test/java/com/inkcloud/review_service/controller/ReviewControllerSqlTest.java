@@ -0,0 +1,64 @@
+package com.inkcloud.review_service.controller;
+
+import static com.inkcloud.review_service.support.SqlStatementAssertions.assertThatSql;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.service.ReviewService;
+import com.inkcloud.review_service.support.LocalJwtIssuer;
+import com.inkcloud.review_service.support.ReviewIntegrationTest;
+
+// 엔드포인트별 SQL 문장 수 고정 - 늘어나면 N+1 이나 캐시 우회가 생긴 것
+@ReviewIntegrationTest
+class ReviewControllerSqlTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Autowired
+	private LocalJwtIssuer jwtIssuer;
+
+	@Test
+	void productReviewsAreOneQueryThenServedFromCache() throws Exception {
+		seed(900L, 5);
+
+		// 목록 버전(ETag) 1 + 리뷰 목록 1, 다음부터는 목록 버전만
+		assertThatSql(() -> mockMvc.perform(get("/api/v1/reviews/products/900")).andExpect(status().isOk()))
+				.hasStatements(2);
+		assertThatSql(() -> mockMvc.perform(get("/api/v1/reviews/products/900")).andExpect(status().isOk()))
+				.hasStatements(1);
+	}
+
+	@Test
+	void reviewsWithLikesDoNotQueryPerReview() throws Exception {
+		seed(901L, 5);
+		String token = jwtIssuer.token("reader@inkcloud.com", "USER");
+
+		// 상품 리뷰 목록 1 + 사용자가 좋아요한 리뷰 ID 1
+		assertThatSql(() -> mockMvc.perform(get("/api/v1/reviews/likes").param("productId", "901")
+						.header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk()))
+				.hasStatements(2)
+				.hasNoRepeatedStatements();
+	}
+
+	private void seed(Long productId, int count) {
+		for (int i = 0; i < count; i++) {
+			ReviewDto review = ReviewDto.builder()
+					.productId(productId)
+					.productName("상품 " + productId)
+					.rating(1 + i % 5)
+					.comment("리뷰 " + i)
+					.build();
+			reviewService.createReview(review, "writer" + i + "@inkcloud.com");
+		}
+	}
+}
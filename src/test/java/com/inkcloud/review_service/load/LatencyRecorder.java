@@ -0,0 +1,85 @@
+package com.inkcloud.review_service.load;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 엔드포인트별 응답 시간 기록 - 측정 구간의 모든 샘플을 보관해 정확한 백분위를 계산한다
+public class LatencyRecorder {
+
+	private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+	public void record(String endpoint, long nanos, boolean success) {
+		samples.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, success);
+	}
+
+	// 엔드포인트 이름 순 요약
+	public Map<String, Summary> summarize(double elapsedSeconds) {
+		Map<String, Summary> summaries = new TreeMap<>();
+		samples.forEach((endpoint, s) -> summaries.put(endpoint, s.summarize(elapsedSeconds)));
+		return summaries;
+	}
+
+	public record Summary(long requests, long errors, double throughput, double p50Millis, double p95Millis,
+			double p99Millis, double maxMillis) {
+
+		public String format(String endpoint) {
+			return String.format("%-22s %8d %6d %10.1f %9.2f %9.2f %9.2f %9.2f",
+					endpoint, requests, errors, throughput, p50Millis, p95Millis, p99Millis, maxMillis);
+		}
+
+		public static String header() {
+			return String.format("%-22s %8s %6s %10s %9s %9s %9s %9s",
+					"endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+		}
+	}
+
+	private static final class Samples {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final AtomicLong errors = new AtomicLong();
+		private long[] nanos = new long[1024];
+		private int size;
+
+		void add(long value, boolean success) {
+			if (!success) {
+				errors.incrementAndGet();
+			}
+			lock.lock();
+			try {
+				if (size == nanos.length) {
+					nanos = Arrays.copyOf(nanos, size * 2);
+				}
+				nanos[size++] = value;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		Summary summarize(double elapsedSeconds) {
+			long[] sorted;
+			lock.lock();
+			try {
+				sorted = Arrays.copyOf(nanos, size);
+			} finally {
+				lock.unlock();
+			}
+			Arrays.sort(sorted);
+			return new Summary(sorted.length, errors.get(), sorted.length / elapsedSeconds,
+					percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+					sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+		}
+
+		// nearest-rank
+		private static double percentile(long[] sorted, double quantile) {
+			if (sorted.length == 0) {
+				return 0;
+			}
+			int rank = (int) Math.ceil(quantile * sorted.length);
+			return sorted[Math.max(0, rank - 1)] / 1e6;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.inkcloud.review_service.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+import java.util.function.IntPredicate;
+
+// 가중치 혼합 부하 발생기 - 일정한 도착률로 요청을 보낸다 (open model)
+// 요청 i 의 예정 시각은 시작 + i / rate 이고, 응답을 기다리지 않고 비동기로 보낸다. 서버가 느려져도 도착률은 줄지 않으며
+// 응답 시간은 실제 전송 시각이 아닌 예정 시각부터 잰다 (발생기가 밀린 시간도 대기 시간에 포함 - coordinated omission 보정).
+// 워밍업 구간에 예정된 요청은 기록하지 않는다.
+public class LoadDriver {
+
+	private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+	private final List<Step> steps = new ArrayList<>();
+	private int totalWeight;
+
+	// 요청 한 종류 - 응답 상태가 ok 를 만족하지 않으면 오류로 센다
+	public record Step(String name, int weight, BiFunction<Client, SplittableRandom, HttpRequest> request, IntPredicate ok) {
+	}
+
+	// 가상 사용자 (클라이언트마다 고유 이메일과 토큰)
+	public record Client(int index, String email, String token) {
+	}
+
+	public LoadDriver step(String name, int weight, BiFunction<Client, SplittableRandom, HttpRequest> request, IntPredicate ok) {
+		steps.add(new Step(name, weight, request, ok));
+		totalWeight += weight;
+		return this;
+	}
+
+	// ratePerSecond 로 요청을 보내고 요청마다 클라이언트를 돌아가며 고른다
+	public Map<String, LatencyRecorder.Summary> run(List<Client> clients, double ratePerSecond, Duration warmup, Duration measure)
+			throws InterruptedException {
+		LatencyRecorder recorder = new LatencyRecorder();
+		SplittableRandom random = new SplittableRandom(42);
+		double intervalNanos = 1e9 / ratePerSecond;
+		long start = System.nanoTime();
+		long measureFrom = start + warmup.toNanos();
+		long deadline = measureFrom + measure.toNanos();
+
+		List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+		for (long i = 0; ; i++) {
+			long intended = start + (long) (i * intervalNanos);
+			if (intended >= deadline) {
+				break;
+			}
+			long wait = intended - System.nanoTime();
+			if (wait > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			Client client = clients.get((int) (i % clients.size()));
+			Step step = pick(random);
+			HttpRequest request = step.request().apply(client, random);
+			boolean measured = intended >= measureFrom;
+			CompletableFuture<Void> response = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+					.handle((result, error) -> {
+						if (measured) {
+							boolean success = error == null && step.ok().test(result.statusCode());
+							recorder.record(step.name(), System.nanoTime() - intended, success);
+						}
+						return null;
+					});
+			if (measured) {
+				inFlight.add(response);
+			}
+		}
+		// 측정 구간에 예정된 요청은 끝날 때까지 기다린다 (늦게 끝난 요청을 빼면 꼬리 지연이 사라진다)
+		try {
+			CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+		} catch (TimeoutException | ExecutionException e) {
+			throw new IllegalStateException("측정 구간 요청이 끝나지 않았습니다.", e);
+		}
+		return recorder.summarize(measure.toNanos() / 1e9);
+	}
+
+	private Step pick(SplittableRandom random) {
+		int value = random.nextInt(totalWeight);
+		for (Step step : steps) {
+			value -= step.weight();
+			if (value < 0) {
+				return step;
+			}
+		}
+		throw new IllegalStateException("가중치 합계 오류");
+	}
+}
@@ -0,0 +1,185 @@
+package com.inkcloud.review_service.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntPredicate;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.service.ReviewService;
+import com.inkcloud.review_service.support.LocalJwtIssuer;
+import com.inkcloud.review_service.support.ReviewIntegrationTest;
+
+// 엔드투엔드 부하 테스트 - ./gradlew loadTest (일반 test 에서는 제외)
+// 내장 H2(MySQL 모드), 내장 카프카, 로컬 JWT 서명기로 앱 전체를 띄우고 (ReviewIntegrationTest) 상품 조회/좋아요/작성/관리자 검색 혼합 부하를 건다.
+// 일정한 도착률(load.rate req/s)로 보내는 open model 이며, 응답 시간은 요청 예정 시각부터 잰다 (LoadDriver).
+// 엔드포인트별 처리량과 p50/p95/p99 를 출력하고, p99 예산이나 오류율을 넘으면 실패한다.
+// 요청 처리 모델 비교는 같은 도착률로 -Dreview.virtual-threads.enabled=true/false 를 각각 실행해 본다 (보고서에 실제 Tomcat 실행기 기록).
+// 조정: -Dload.rate=500 -Dload.clients=64 -Dload.duration-seconds=60 -Dload.budget.product-reviews=150
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ReviewIntegrationTest
+class ReviewLoadTest {
+
+	private static final int PRODUCTS = Integer.getInteger("load.products", 50);
+	private static final int REVIEWS_PER_PRODUCT = Integer.getInteger("load.reviews-per-product", 40);
+	private static final int CLIENTS = Integer.getInteger("load.clients", 32);
+	private static final double RATE = Double.parseDouble(System.getProperty("load.rate", "300"));
+	private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 5));
+	private static final Duration MEASURE = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 30));
+	private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+
+	// 엔드포인트별 기본 p99 예산 (ms) - load.budget.<endpoint> 로 덮어쓴다
+	private static final Map<String, Integer> DEFAULT_P99_BUDGET_MS = Map.of(
+			"product-reviews", 200,
+			"product-reviews-liked", 250,
+			"like", 300,
+			"unlike", 300,
+			"create", 500,
+			"admin-search", 800);
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Autowired
+	private LocalJwtIssuer jwtIssuer;
+
+	@Autowired
+	private ServletWebServerApplicationContext webServerContext;
+
+	@BeforeAll
+	void seed() {
+		for (long product = 1; product <= PRODUCTS; product++) {
+			for (int i = 0; i < REVIEWS_PER_PRODUCT; i++) {
+				ReviewDto review = ReviewDto.builder()
+						.productId(product)
+						.productName("상품 " + product)
+						.rating(1 + i % 5)
+						.comment("부하 테스트 리뷰 " + i + " - 배송이 빠르고 책 상태가 좋아요")
+						.build();
+				reviewService.createReview(review, "seed" + i + "@inkcloud.com");
+			}
+		}
+	}
+
+	@Test
+	void mixedTrafficStaysWithinLatencyBudget() throws InterruptedException, IOException {
+		String adminToken = jwtIssuer.token("admin@inkcloud.com", "ADMIN");
+		List<LoadDriver.Client> clients = new ArrayList<>();
+		for (int i = 0; i < CLIENTS; i++) {
+			String email = "load" + i + "@inkcloud.com";
+			clients.add(new LoadDriver.Client(i, email, jwtIssuer.token(email, "USER")));
+		}
+		List<Long> reviewIds = reviewService.getReviewsByProductId(1L).stream().map(ReviewDto::getId).toList();
+
+		LoadDriver driver = new LoadDriver()
+				.step("product-reviews", 45, (client, random) -> get("/products/" + product(random), null), ok2xx())
+				.step("product-reviews-liked", 15,
+						(client, random) -> get("/likes?productId=" + product(random), client.token()), ok2xx())
+				.step("like", 15, (client, random) -> send("POST", "/like?reviewId=" + pick(reviewIds, random), client.token(), null), ok2xx())
+				.step("unlike", 5, (client, random) -> send("DELETE", "/like?reviewId=" + pick(reviewIds, random), client.token(), null), ok2xx())
+				// 같은 상품에 다시 쓰면 409 - 정상 응답으로 본다
+				.step("create", 15, (client, random) -> send("POST", "", client.token(),
+						"{\"productId\":" + product(random) + ",\"productName\":\"부하 상품\",\"rating\":" + (1 + random.nextInt(5))
+								+ ",\"comment\":\"부하 테스트 작성\"}"),
+						status -> (status >= 200 && status < 300) || status == 409)
+				.step("admin-search", 5, (client, random) -> send("POST", "/admin", adminToken,
+						"{\"page\":" + random.nextInt(5) + ",\"size\":20,\"minRating\":" + (1 + random.nextInt(5)) + "}"), ok2xx());
+
+		Map<String, LatencyRecorder.Summary> summaries = driver.run(clients, RATE, WARMUP, MEASURE);
+		report(summaries);
+
+		SoftAssertions softly = new SoftAssertions();
+		summaries.forEach((endpoint, summary) -> {
+			int budget = Integer.getInteger("load.budget." + endpoint, DEFAULT_P99_BUDGET_MS.getOrDefault(endpoint, 500));
+			softly.assertThat(summary.p99Millis()).as("%s p99 (ms)", endpoint).isLessThanOrEqualTo(budget);
+			softly.assertThat((double) summary.errors() / Math.max(1, summary.requests()))
+					.as("%s 오류율", endpoint).isLessThanOrEqualTo(MAX_ERROR_RATE);
+		});
+		softly.assertThat(summaries).as("측정된 엔드포인트").containsKeys(DEFAULT_P99_BUDGET_MS.keySet().toArray(String[]::new));
+		softly.assertAll();
+	}
+
+	private void report(Map<String, LatencyRecorder.Summary> summaries) throws IOException, InterruptedException {
+		List<String> lines = new ArrayList<>();
+		lines.add(String.format("rate=%.0f/s, clients=%d, measure=%ds, tomcat-executor=%s", RATE, CLIENTS, MEASURE.toSeconds(),
+				tomcatExecutor()));
+		lines.add(LatencyRecorder.Summary.header());
+		summaries.forEach((endpoint, summary) -> lines.add(summary.format(endpoint)));
+		lines.forEach(System.out::println);
+
+		Path out = Path.of("build", "reports", "load", "summary.txt");
+		Files.createDirectories(out.getParent());
+		Files.write(out, lines);
+	}
+
+	// 설정값이 아닌 실제로 요청을 처리하는 Tomcat 실행기와, 그 실행기의 스레드가 가상 스레드인지
+	private String tomcatExecutor() throws InterruptedException {
+		Executor executor = ((TomcatWebServer) webServerContext.getWebServer())
+				.getTomcat().getConnector().getProtocolHandler().getExecutor();
+		CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+		executor.execute(() -> virtual.complete(Thread.currentThread().isVirtual()));
+		try {
+			return executor.getClass().getSimpleName() + (virtual.get(5, TimeUnit.SECONDS) ? " (virtual)" : " (platform)");
+		} catch (ExecutionException | TimeoutException e) {
+			return executor.getClass().getSimpleName();
+		}
+	}
+
+	private HttpRequest get(String path, String token) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path)).GET();
+		if (token != null) {
+			builder.header("Authorization", "Bearer " + token);
+		}
+		return builder.build();
+	}
+
+	private HttpRequest send(String method, String path, String token, String json) {
+		return HttpRequest.newBuilder(uri(path))
+				.header("Authorization", "Bearer " + token)
+				.header("Content-Type", "application/json")
+				.method(method, json == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json))
+				.build();
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + "/api/v1/reviews" + path);
+	}
+
+	private static long product(SplittableRandom random) {
+		return 1 + random.nextInt(PRODUCTS);
+	}
+
+	private static long pick(List<Long> ids, SplittableRandom random) {
+		return ids.get(random.nextInt(ids.size()));
+	}
+
+	private static IntPredicate ok2xx() {
+		return status -> status >= 200 && status < 300;
+	}
+}
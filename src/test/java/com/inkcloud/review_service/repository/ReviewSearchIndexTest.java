@@ -0,0 +1,71 @@
+package com.inkcloud.review_service.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 메모리 역색인 - 후보는 LIKE 결과의 상위 집합, 초기 스캔 중 실시간 반영 우선, 상한 초과시 꺼진다
+class ReviewSearchIndexTest {
+
+	@Test
+	void candidatesContainEveryReviewMatchingTheKeyword() {
+		ReviewSearchIndex index = new ReviewSearchIndex();
+		index.load(1L, "해리 포터", "정말 재미있어요", "a@inkcloud.com");
+		index.load(2L, "반지의 제왕", "재미없어요", "b@inkcloud.com");
+		index.load(3L, "해리 포터", "별로", "c@inkcloud.com");
+
+		assertThat(index.search("재미")).isNull(); // 준비 전에는 LIKE
+		index.markReady();
+
+		assertThat(index.search("재미")).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(index.search("해리")).containsExactlyInAnyOrder(1L, 3L);
+		assertThat(index.search("없는말")).isEmpty();
+		assertThat(index.search("재")).isNull(); // 2글자 미만
+	}
+
+	@Test
+	void liveChangesWinOverTheInitialScan() {
+		ReviewSearchIndex index = new ReviewSearchIndex();
+		index.upsert(1L, "해리 포터", "수정된 코멘트", "a@inkcloud.com"); // 스캔 도중 수정
+		index.remove(2L);                                                   // 스캔 도중 삭제
+		index.load(1L, "해리 포터", "예전 코멘트", "a@inkcloud.com");
+		index.load(2L, "반지의 제왕", "예전 코멘트", "b@inkcloud.com");
+		index.markReady();
+
+		assertThat(index.search("수정")).containsExactly(1L);
+		assertThat(index.search("예전")).isEmpty();
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	@Test
+	void updatesAndRemovalsKeepPostingCountExact() {
+		ReviewSearchIndex index = new ReviewSearchIndex();
+		index.markReady();
+		index.upsert(1L, null, "가나다", null);
+		assertThat(index.postings()).isEqualTo(2);
+
+		index.upsert(1L, null, "가나다라", null);
+		assertThat(index.postings()).isEqualTo(3);
+		assertThat(index.search("가나")).containsExactly(1L);
+
+		index.remove(1L);
+		assertThat(index.postings()).isZero();
+		assertThat(index.search("가나")).isEmpty();
+	}
+
+	@Test
+	void turnsOffInsteadOfGrowingPastMaxPostings() {
+		ReviewSearchIndex index = new ReviewSearchIndex();
+		ReflectionTestUtils.setField(index, "maxPostings", 5L);
+		index.markReady();
+		index.upsert(1L, null, "가나다", null);
+		assertThat(index.search("가나")).containsExactly(1L);
+
+		index.upsert(2L, null, "라마바사아", null);
+
+		assertThat(index.isReady()).isFalse();
+		assertThat(index.search("가나")).isNull(); // 부분 색인 대신 LIKE
+		assertThat(index.postings()).isZero();
+	}
+}
@@ -0,0 +1,86 @@
+package com.inkcloud.review_service.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.inkcloud.review_service.config.IdReservationPool;
+import com.inkcloud.review_service.config.ShardRoutingDataSource;
+
+// 내장 H2 두 개를 샤드 0, 1 로 두고 샤드 라우팅/ID 발급/scatter 확인
+class ReviewShardsTest {
+
+	private JdbcTemplate jdbc;
+	private ReviewIdAllocator allocator;
+	private ReviewShards shards;
+
+	@BeforeEach
+	void setUp() {
+		Map<Object, Object> targets = new HashMap<>();
+		targets.put(0, embedded("shard-0"));
+		targets.put(1, embedded("shard-1"));
+		ShardRoutingDataSource routing = new ShardRoutingDataSource();
+		routing.setTargetDataSources(targets);
+		routing.setLenientFallback(false);
+		routing.afterPropertiesSet();
+
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+		jdbc = new JdbcTemplate(dataSource);
+		// 샤딩 전 IDENTITY 로 만든 리뷰 (모두 0번 샤드)
+		ShardContext.run(0, () -> jdbc.update("insert into review (id) values (1), (2), (3), (4), (5)"));
+
+		ShardRouter router = new ModuloShardRouter(2);
+		allocator = new ReviewIdAllocator(new IdReservationPool(routing), router);
+		shards = new ReviewShards(router, allocator, new DataSourceTransactionManager(dataSource), false);
+	}
+
+	@AfterEach
+	void tearDown() {
+		shards.shutdown();
+	}
+
+	@Test
+	void idsCarryTheirShardAndLegacyIdsStayOnShardZero() {
+		long first = allocator.nextId(ReviewIdAllocator.REVIEW, 1);
+		long second = allocator.nextId(ReviewIdAllocator.REVIEW, 1);
+		long onZero = allocator.nextId(ReviewIdAllocator.REVIEW, 0);
+
+		assertThat(first).isGreaterThan(5);
+		assertThat(second).isGreaterThan(first);
+		assertThat(allocator.shardOf(ReviewIdAllocator.REVIEW, first)).isEqualTo(1);
+		assertThat(allocator.shardOf(ReviewIdAllocator.REVIEW, onZero)).isZero();
+		assertThat(allocator.shardOf(ReviewIdAllocator.REVIEW, 3)).isZero();
+		assertThat(shards.forProduct(7L)).isEqualTo(1);
+	}
+
+	@Test
+	void queriesFollowShardContextAndScatterVisitsEveryShard() {
+		assertThat(ShardContext.call(1, () -> jdbc.queryForObject("select name from node", String.class)))
+				.isEqualTo("shard-1");
+
+		List<String> names = shards.scatter(shard -> jdbc.queryForObject("select name from node", String.class));
+		assertThat(names).containsExactly("shard-0", "shard-1");
+	}
+
+	private DataSource embedded(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+		JdbcTemplate template = new JdbcTemplate(dataSource);
+		template.execute("create table node (name varchar(20))");
+		template.update("insert into node values (?)", name);
+		template.execute("create table review (id bigint primary key)");
+		template.execute("create table review_id_sequence (seq_key varchar(50) primary key, next_val bigint not null, legacy_ceiling bigint not null)");
+		return dataSource;
+	}
+}
@@ -0,0 +1,46 @@
+package com.inkcloud.review_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inkcloud.review_service.repository.JobLeaseRepository;
+import com.inkcloud.review_service.support.ReviewIntegrationTest;
+
+// 같은 일정으로 깨어난 두 노드 중 한 곳만 임대를 얻고, 반납하거나 기한이 지나면 다른 노드가 가져간다
+@ReviewIntegrationTest
+class JobLeasesTest {
+
+	@Autowired
+	private JobLeaseRepository jobLeaseRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void onlyOneNodeHoldsTheLease() {
+		JobLeases node1 = new JobLeases(jobLeaseRepository, transactionTemplate);
+		JobLeases node2 = new JobLeases(jobLeaseRepository, transactionTemplate);
+
+		assertThat(node1.tryAcquire("lease-it", Duration.ofMinutes(5))).isTrue();
+		assertThat(node2.tryAcquire("lease-it", Duration.ofMinutes(5))).isFalse();
+		assertThat(node1.tryAcquire("lease-it", Duration.ofMinutes(5))).isTrue(); // 연장
+
+		node1.release("lease-it");
+		assertThat(node2.tryAcquire("lease-it", Duration.ofMinutes(5))).isTrue();
+	}
+
+	@Test
+	void expiredLeaseIsTakenOver() {
+		JobLeases node1 = new JobLeases(jobLeaseRepository, transactionTemplate);
+		JobLeases node2 = new JobLeases(jobLeaseRepository, transactionTemplate);
+
+		assertThat(node1.tryAcquire("lease-it-expired", Duration.ofMillis(-1))).isTrue(); // 죽은 노드가 남긴 임대
+		assertThat(node2.tryAcquire("lease-it-expired", Duration.ofMinutes(5))).isTrue();
+		assertThat(node1.tryAcquire("lease-it-expired", Duration.ofMinutes(5))).isFalse();
+	}
+}
@@ -0,0 +1,52 @@
+package com.inkcloud.review_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+// 인기 리뷰 하나에 좋아요/취소가 동시에 몰려도 증감이 유실되지 않는지 (처리량은 LikeCountBufferBenchmark)
+class LikeCountBufferTest {
+
+	private static final long REVIEW_ID = 1L;
+	private static final int LIKERS = 8;
+	private static final int LIKES_PER_LIKER = 1_000;
+
+	@Test
+	void concurrentLikesOnSingleReviewAreNotLost() throws Exception {
+		LikeCountBuffer buffer = new LikeCountBuffer(null, null, null, null, null, null);
+		ExecutorService executor = Executors.newFixedThreadPool(LIKERS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < LIKERS; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int n = 0; n < LIKES_PER_LIKER; n++) {
+						buffer.increment(REVIEW_ID);
+						if (n % 4 == 0) {
+							buffer.decrement(REVIEW_ID);
+						}
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+
+			long expected = (long) LIKERS * (LIKES_PER_LIKER - LIKES_PER_LIKER / 4);
+			assertThat(buffer.pendingDelta(REVIEW_ID)).isEqualTo(expected);
+			assertThat(buffer.withPending(REVIEW_ID, 10)).isEqualTo((int) (expected + 10));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
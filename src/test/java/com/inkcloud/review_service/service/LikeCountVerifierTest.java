@@ -0,0 +1,45 @@
+package com.inkcloud.review_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.support.ReviewIntegrationTest;
+
+// 반영 전에 유실된 좋아요 증감(노드 장애 등)을 review_like 행 수로 바로잡는다
+@ReviewIntegrationTest
+class LikeCountVerifierTest {
+
+	@Autowired
+	private LikeCountVerifier likeCountVerifier;
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Autowired
+	private LikeCountBuffer likeCountBuffer;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void driftedLikeCountIsRecountedFromReviewLikes() {
+		ReviewDto review = ReviewDto.builder().productId(970L).productName("상품 970").rating(4).comment("리뷰").build();
+		reviewService.createReview(review, "author970@inkcloud.com");
+		reviewService.likesReview(review.getId(), "liker1@inkcloud.com");
+		reviewService.likesReview(review.getId(), "liker2@inkcloud.com");
+		likeCountBuffer.flushNow();
+
+		jdbcTemplate.update("UPDATE review SET like_count = 7 WHERE id = ?", review.getId());
+
+		ReflectionTestUtils.setField(likeCountVerifier, "confirmDelayMillis", 0L);
+		likeCountVerifier.verify();
+
+		assertThat(jdbcTemplate.queryForObject("SELECT like_count FROM review WHERE id = ?", Integer.class, review.getId()))
+				.isEqualTo(2);
+	}
+}
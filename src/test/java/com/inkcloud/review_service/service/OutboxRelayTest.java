@@ -0,0 +1,110 @@
+package com.inkcloud.review_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inkcloud.review_service.dto.ReviewEventDto;
+import com.inkcloud.review_service.support.ReviewIntegrationTest;
+
+// 아웃박스 -> 내장 카프카: 롤백된 이벤트는 나가지 않고, 임대가 끝난 이벤트는 다시 보내되 한 번만 전달된다
+@ReviewIntegrationTest
+class OutboxRelayTest {
+
+	private static final String INSERT_SQL = "INSERT INTO review_outbox "
+			+ "(topic, message_key, payload_type, payload, attempts, created_at, lease_until) VALUES (?, ?, ?, ?, 0, ?, ?)";
+
+	@Autowired
+	private OutboxService outboxService;
+
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EmbeddedKafkaBroker broker;
+
+	@Test
+	void rolledBackEventIsNeverPublished() {
+		String topic = "outbox-it-rollback";
+		broker.addTopics(topic);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			outboxService.append(topic, "970", new ReviewEventDto("created", 970L, 5, null));
+			status.setRollbackOnly();
+		});
+		outboxRelay.relay();
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM review_outbox WHERE topic = ?", Long.class, topic)).isZero();
+		try (Consumer<String, String> consumer = consumer(topic)) {
+			assertThat(poll(consumer, 1, Duration.ofSeconds(2))).isEmpty();
+		}
+	}
+
+	@Test
+	void expiredLeaseIsRetriedAndDeliveredOnce() {
+		String topic = "outbox-it-retry";
+		broker.addTopics(topic);
+		LocalDateTime now = LocalDateTime.now();
+		String payload = "{\"type\":\"created\",\"productId\":971,\"rating\":4}";
+		// 가져간 릴레이가 발행 완료 표시 전에 죽은 이벤트 / 다른 릴레이가 지금 발행 중인 이벤트
+		jdbcTemplate.update(INSERT_SQL, topic, "971", ReviewEventDto.class.getName(), payload,
+				Timestamp.valueOf(now), Timestamp.valueOf(now.minusMinutes(5)));
+		jdbcTemplate.update(INSERT_SQL, topic, "972", ReviewEventDto.class.getName(), payload,
+				Timestamp.valueOf(now), Timestamp.valueOf(now.plusMinutes(5)));
+
+		outboxRelay.relay();
+		outboxRelay.relay(); // 이미 보낸 건은 다시 보내지 않는다
+
+		try (Consumer<String, String> consumer = consumer(topic)) {
+			List<ConsumerRecord<String, String>> records = poll(consumer, 2, Duration.ofSeconds(5));
+			assertThat(records).extracting(ConsumerRecord::key).containsExactly("971");
+			assertThat(new String(records.get(0).headers().lastHeader(OutboxPublisher.EVENT_ID_HEADER).value(),
+					StandardCharsets.UTF_8)).isNotBlank();
+		}
+		Map<String, Object> retried = jdbcTemplate.queryForMap(
+				"SELECT sent_at, lease_until FROM review_outbox WHERE topic = ? AND message_key = '971'", topic);
+		assertThat(retried.get("sent_at")).isNotNull();
+		assertThat(retried.get("lease_until")).isNull();
+	}
+
+	private Consumer<String, String> consumer(String topic) {
+		Map<String, Object> props = KafkaTestUtils.consumerProps(topic + "-verifier", "false", broker);
+		Consumer<String, String> consumer =
+				new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new StringDeserializer()).createConsumer();
+		broker.consumeFromAnEmbeddedTopic(consumer, topic);
+		return consumer;
+	}
+
+	// 기대 건수를 넘는 중복이 있으면 드러나도록 제한 시간까지 계속 읽는다
+	private static List<ConsumerRecord<String, String>> poll(Consumer<String, String> consumer, int max, Duration timeout) {
+		List<ConsumerRecord<String, String>> records = new ArrayList<>();
+		long deadline = System.currentTimeMillis() + timeout.toMillis();
+		while (System.currentTimeMillis() < deadline && records.size() <= max) {
+			consumer.poll(Duration.ofMillis(200)).forEach(records::add);
+		}
+		return records;
+	}
+}
@@ -0,0 +1,105 @@
+package com.inkcloud.review_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inkcloud.review_service.dto.ExportFormat;
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.dto.ReviewRequestDto;
+import com.inkcloud.review_service.repository.ModuloShardRouter;
+import com.inkcloud.review_service.repository.ReviewRepository;
+import com.inkcloud.review_service.repository.ReviewShards;
+import com.inkcloud.review_service.repository.ShardContext;
+
+// 샤드 두 개의 리뷰를 샤드 순서대로 이어 쓴 내보내기 결과 전체를 비교 (CSV 따옴표/수식 문자, NDJSON 줄 구분)
+class ReviewExportServiceTest {
+
+	private static final List<List<ReviewDto>> SHARDS = List.of(
+			List.of(
+					review(1L, "a@inkcloud.com", 10L, "책, 하나", 5, "=HYPERLINK(\"x\")", 3,
+							LocalDateTime.of(2024, 1, 2, 3, 4, 5), null),
+					review(2L, "b@inkcloud.com", 10L, "책, 하나", 4, "+1 추천", 0,
+							LocalDateTime.of(2024, 1, 3, 0, 0, 1), LocalDateTime.of(2024, 1, 4, 12, 30, 1))),
+			List.of(
+					review(257L, "c@inkcloud.com", 11L, "책 둘", 1, "-3점\n별로", 1,
+							LocalDateTime.of(2024, 2, 1, 9, 0, 1), null),
+					review(258L, "@d", 11L, "책 둘", 2, "\t탭으로 시작", 0,
+							LocalDateTime.of(2024, 2, 2, 9, 0, 1), null)));
+
+	private ReviewShards reviewShards;
+	private ReviewExportService exportService;
+
+	@BeforeEach
+	void setUp() {
+		ReviewRepository reviewRepository = mock(ReviewRepository.class);
+		when(reviewRepository.streamReviews(any(), any(), any(), any(), any(), anyInt()))
+				.thenAnswer(invocation -> SHARDS.get(ShardContext.current()).stream());
+
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(
+				new DriverManagerDataSource("jdbc:h2:mem:export-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1"));
+		reviewShards = new ReviewShards(new ModuloShardRouter(2), null, transactionManager, false);
+		exportService = new ReviewExportServiceImpl(reviewRepository, null, reviewShards, transactionManager,
+				Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build(),
+				new DataSourceProperties(), 100);
+	}
+
+	@AfterEach
+	void tearDown() {
+		reviewShards.shutdown();
+	}
+
+	@Test
+	void csvQuotesFieldsAndNeutralisesFormulaPrefixes() throws Exception {
+		assertThat(export(ExportFormat.CSV)).isEqualTo(
+				"id,email,productId,productName,rating,comment,likeCount,createdAt,updatedAt\r\n"
+						+ "1,a@inkcloud.com,10,\"책, 하나\",5,\"'=HYPERLINK(\"\"x\"\")\",3,2024-01-02T03:04:05,\r\n"
+						+ "2,b@inkcloud.com,10,\"책, 하나\",4,'+1 추천,0,2024-01-03T00:00:01,2024-01-04T12:30:01\r\n"
+						+ "257,c@inkcloud.com,11,책 둘,1,\"'-3점\n별로\",1,2024-02-01T09:00:01,\r\n"
+						+ "258,'@d,11,책 둘,2,'\t탭으로 시작,0,2024-02-02T09:00:01,\r\n");
+	}
+
+	@Test
+	void ndjsonWritesOneReviewPerLineAcrossShards() throws Exception {
+		assertThat(export(ExportFormat.NDJSON)).isEqualTo(
+				"{\"id\":1,\"email\":\"a@inkcloud.com\",\"productId\":10,\"productName\":\"책, 하나\",\"rating\":5,"
+						+ "\"comment\":\"=HYPERLINK(\\\"x\\\")\",\"likeCount\":3,\"createdAt\":\"2024-01-02T03:04:05\","
+						+ "\"updatedAt\":null,\"likedByMe\":false,\"reports\":null}\n"
+						+ "{\"id\":2,\"email\":\"b@inkcloud.com\",\"productId\":10,\"productName\":\"책, 하나\",\"rating\":4,"
+						+ "\"comment\":\"+1 추천\",\"likeCount\":0,\"createdAt\":\"2024-01-03T00:00:01\","
+						+ "\"updatedAt\":\"2024-01-04T12:30:01\",\"likedByMe\":false,\"reports\":null}\n"
+						+ "{\"id\":257,\"email\":\"c@inkcloud.com\",\"productId\":11,\"productName\":\"책 둘\",\"rating\":1,"
+						+ "\"comment\":\"-3점\\n별로\",\"likeCount\":1,\"createdAt\":\"2024-02-01T09:00:01\","
+						+ "\"updatedAt\":null,\"likedByMe\":false,\"reports\":null}\n"
+						+ "{\"id\":258,\"email\":\"@d\",\"productId\":11,\"productName\":\"책 둘\",\"rating\":2,"
+						+ "\"comment\":\"\\t탭으로 시작\",\"likeCount\":0,\"createdAt\":\"2024-02-02T09:00:01\","
+						+ "\"updatedAt\":null,\"likedByMe\":false,\"reports\":null}\n");
+	}
+
+	private String export(ExportFormat format) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exportService.exportReviews(new ReviewRequestDto(), format, out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	private static ReviewDto review(Long id, String email, Long productId, String productName, int rating, String comment,
+									int likeCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+		return new ReviewDto(id, email, productId, productName, rating, comment, likeCount, createdAt, updatedAt);
+	}
+}
@@ -0,0 +1,73 @@
+package com.inkcloud.review_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.dto.ReviewImportProgressDto;
+import com.inkcloud.review_service.support.ReviewIntegrationTest;
+
+@ReviewIntegrationTest
+class ReviewImportServiceTest {
+
+	private static final String NDJSON = """
+			{"productId":950,"productName":"상품 950","email":"a@inkcloud.com","rating":5,"comment":"좋아요","createdAt":"2021-03-01T10:00:00","likedBy":["x@inkcloud.com","y@inkcloud.com","x@inkcloud.com"]}
+			{"productId":950,"productName":"상품 950","email":"b@inkcloud.com","rating":3}
+			{"productId":950,"productName":"상품 950","email":"a@inkcloud.com","rating":1}
+			{"productId":951,"productName":"상품 951","email":"a@inkcloud.com","rating":9}
+			""";
+
+	@Autowired
+	private ReviewImportService reviewImportService;
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Test
+	void importsOncePerProductAndAuthorAndKeepsCreatedAt() throws Exception {
+		ReviewImportProgressDto first = reviewImportService.importReviews("it-import", stream(NDJSON));
+
+		assertThat(first.getStatus()).isEqualTo("COMPLETED");
+		assertThat(first.getRead()).isEqualTo(4);
+		assertThat(first.getImported()).isEqualTo(2);
+		assertThat(first.getSkipped()).isEqualTo(1); // 같은 청크 안의 중복 (상품, 작성자)
+		assertThat(first.getRejected()).isEqualTo(1); // 평점 범위 밖
+		assertThat(first.getLikes()).isEqualTo(2); // 같은 줄 안의 중복 좋아요는 한 번
+
+		List<ReviewDto> reviews = reviewService.getReviewsByProductId(950L);
+		ReviewDto imported = reviews.stream().filter(review -> review.getEmail().equals("a@inkcloud.com")).findFirst().orElseThrow();
+		assertThat(reviews).hasSize(2);
+		assertThat(imported.getRating()).isEqualTo(5);
+		assertThat(imported.getLikeCount()).isEqualTo(2);
+		assertThat(imported.getCreatedAt()).isEqualTo(LocalDateTime.of(2021, 3, 1, 10, 0));
+
+		// 재실행은 멱등 - 리뷰/좋아요 모두 늘지 않는다
+		ReviewImportProgressDto second = reviewImportService.importReviews("it-import", stream(NDJSON));
+		assertThat(second.getImported()).isZero();
+		assertThat(second.getLikes()).isZero();
+		assertThat(reviewService.getReviewsByProductId(950L)).hasSize(2)
+				.filteredOn(review -> review.getEmail().equals("a@inkcloud.com"))
+				.extracting(ReviewDto::getLikeCount).containsExactly(2);
+		assertThat(reviewImportService.getProgress("it-import").getStatus()).isEqualTo("COMPLETED");
+	}
+
+	@Test
+	void malformedLineFailsJob() throws Exception {
+		ReviewImportProgressDto progress = reviewImportService.importReviews(null,
+				stream("{\"productId\":952,\"productName\":\"상품 952\",\"email\":\"c@inkcloud.com\",\"rating\":4}\n{broken\n"));
+
+		assertThat(progress.getStatus()).isEqualTo("FAILED");
+		assertThat(progress.getLastError()).startsWith("line 2");
+	}
+
+	private static ByteArrayInputStream stream(String text) {
+		return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+	}
+}
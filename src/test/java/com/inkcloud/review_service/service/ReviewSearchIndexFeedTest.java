@@ -0,0 +1,63 @@
+package com.inkcloud.review_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.repository.ReviewSearchIndex;
+import com.inkcloud.review_service.support.ReviewIntegrationTest;
+
+// 기동 후 초기 스캔이 시작한 구독으로, 커밋된 리뷰 작성/삭제가 아웃박스 -> 카프카를 거쳐 이 노드의 색인에 반영된다
+@ReviewIntegrationTest
+class ReviewSearchIndexFeedTest {
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	@Autowired
+	private ReviewSearchIndex reviewSearchIndex;
+
+	@Test
+	void committedWritesReachTheIndex() throws Exception {
+		ReviewDto review = ReviewDto.builder()
+				.productId(930L)
+				.productName("색인 상품")
+				.rating(4)
+				.comment("색인확인용코멘트")
+				.build();
+		reviewService.createReview(review, "indexer@inkcloud.com");
+		outboxRelay.relay();
+		assertThat(await("색인확인")).containsExactly(review.getId());
+
+		reviewService.deleteReviews(List.of(review.getId()), "indexer@inkcloud.com", List.of());
+		outboxRelay.relay();
+		assertThat(awaitEmpty("색인확인")).isEmpty();
+	}
+
+	private List<Long> await(String keyword) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		List<Long> candidates = reviewSearchIndex.search(keyword);
+		while ((candidates == null || candidates.isEmpty()) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(100);
+			candidates = reviewSearchIndex.search(keyword);
+		}
+		return candidates;
+	}
+
+	private List<Long> awaitEmpty(String keyword) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		List<Long> candidates = reviewSearchIndex.search(keyword);
+		while ((candidates == null || !candidates.isEmpty()) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(100);
+			candidates = reviewSearchIndex.search(keyword);
+		}
+		return candidates;
+	}
+}
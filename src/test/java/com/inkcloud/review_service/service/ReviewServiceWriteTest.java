@@ -0,0 +1,90 @@
+package com.inkcloud.review_service.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.inkcloud.review_service.dto.ReviewDto;
+import com.inkcloud.review_service.support.ReviewIntegrationTest;
+
+@ReviewIntegrationTest
+class ReviewServiceWriteTest {
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Autowired
+	private ProductRatingSummaryService productRatingSummaryService;
+
+	@Autowired
+	private LikeCountBuffer likeCountBuffer;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void duplicateCreateReturnsExistingReviewId() {
+		ReviewDto first = review(960L, 4);
+		ReviewDto second = review(960L, 2);
+
+		assertThat(reviewService.createReview(first, "dup@inkcloud.com")).isTrue();
+		assertThat(reviewService.createReview(second, "dup@inkcloud.com")).isFalse();
+
+		assertThat(first.getId()).isNotNull();
+		assertThat(second.getId()).isEqualTo(first.getId());
+		assertThat(productRatingSummaryService.getSummary(960L).getReviewCount()).isEqualTo(1);
+	}
+
+	@Test
+	void updateChecksOwnerAndMovesRatingInSummary() {
+		ReviewDto created = review(961L, 2);
+		reviewService.createReview(created, "owner@inkcloud.com");
+
+		ReviewDto change = ReviewDto.builder().rating(5).comment("수정").build();
+		assertThatThrownBy(() -> reviewService.updateReview(created.getId(), change, "other@inkcloud.com"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("본인 리뷰만 수정할 수 있습니다.");
+
+		reviewService.updateReview(created.getId(), change, "owner@inkcloud.com");
+
+		ReviewDto updated = reviewService.getReviewDetail(created.getId(), "owner@inkcloud.com");
+		assertThat(updated.getRating()).isEqualTo(5);
+		assertThat(updated.getComment()).isEqualTo("수정");
+		assertThat(productRatingSummaryService.getSummary(961L).getHistogram())
+				.containsEntry(2, 0L)
+				.containsEntry(5, 1L);
+	}
+
+	@Test
+	void doubleLikeAndDoubleUnlikeLeaveLikeCountUnchanged() {
+		ReviewDto created = review(962L, 4);
+		reviewService.createReview(created, "author962@inkcloud.com");
+		Long reviewId = created.getId();
+
+		assertThat(reviewService.likesReview(reviewId, "fan@inkcloud.com")).isTrue();
+		assertThat(reviewService.likesReview(reviewId, "fan@inkcloud.com")).isFalse();
+		likeCountBuffer.flushNow();
+		assertThat(likeCount(reviewId)).isEqualTo(1);
+
+		assertThat(reviewService.cancelLikesReview(reviewId, "fan@inkcloud.com")).isTrue();
+		assertThat(reviewService.cancelLikesReview(reviewId, "fan@inkcloud.com")).isFalse();
+		likeCountBuffer.flushNow();
+		assertThat(likeCount(reviewId)).isZero();
+	}
+
+	private int likeCount(Long reviewId) {
+		return jdbcTemplate.queryForObject("SELECT like_count FROM review WHERE id = ?", Integer.class, reviewId);
+	}
+
+	private static ReviewDto review(Long productId, int rating) {
+		return ReviewDto.builder()
+				.productId(productId)
+				.productName("상품 " + productId)
+				.rating(rating)
+				.comment("리뷰")
+				.build();
+	}
+}
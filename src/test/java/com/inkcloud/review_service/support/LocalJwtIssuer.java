@@ -0,0 +1,66 @@
+package com.inkcloud.review_service.support;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+
+// Keycloak 대신 토큰을 발급하는 로컬 RSA 서명기 - 같은 공개키로 검증하는 JwtDecoder 를 함께 제공
+// 클레임 구성은 Keycloak 과 같다 (email, realm_access.roles)
+public class LocalJwtIssuer {
+
+	static final String ISSUER = "http://localhost/realms/inkcloud";
+
+	private final RSAPublicKey publicKey;
+	private final JwtEncoder encoder;
+
+	public LocalJwtIssuer() {
+		KeyPair keyPair = generateKeyPair();
+		this.publicKey = (RSAPublicKey) keyPair.getPublic();
+		RSAKey jwk = new RSAKey.Builder(publicKey).privateKey((RSAPrivateKey) keyPair.getPrivate()).keyID("load-test").build();
+		this.encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
+	}
+
+	public String token(String email, String... roles) {
+		Instant now = Instant.now();
+		JwtClaimsSet claims = JwtClaimsSet.builder()
+				.issuer(ISSUER)
+				.subject(email)
+				.issuedAt(now)
+				.expiresAt(now.plus(Duration.ofHours(1)))
+				.claim("email", email)
+				.claim("realm_access", Map.of("roles", List.of(roles)))
+				.build();
+		return encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+	}
+
+	public JwtDecoder decoder() {
+		return NimbusJwtDecoder.withPublicKey(publicKey).build();
+	}
+
+	private static KeyPair generateKeyPair() {
+		try {
+			KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048);
+			return generator.generateKeyPair();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.inkcloud.review_service.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+// 앱 전체를 외부 의존성 없이 띄우는 통합 테스트 구성
+// 내장 H2(MySQL 모드), 내장 카프카, Keycloak 대신 로컬 JWT 서명기(LocalJwtIssuer 빈으로 토큰 발급)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@EmbeddedKafka(partitions = 1)
+@AutoConfigureMockMvc
+@Import(ReviewIntegrationTest.LocalJwtConfig.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"SPRING_PROFILES_ACTIVE=test",
+		"SPRING_KEYCLOAK_URL=http://localhost",
+		"spring.datasource.url=jdbc:h2:mem:review-it;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+		"logging.level.org.hibernate.SQL=warn",
+		"logging.level.org.hibernate.orm.jdbc.bind=warn",
+		"logging.level.org.springframework.security=warn",
+		"logging.level.com.inkcloud.review_service.controller=warn"
+})
+public @interface ReviewIntegrationTest {
+
+	@TestConfiguration
+	class LocalJwtConfig {
+
+		@Bean
+		LocalJwtIssuer localJwtIssuer() {
+			return new LocalJwtIssuer();
+		}
+
+		// Keycloak JWK 엔드포인트 대신 로컬 서명기 공개키로 검증
+		@Bean
+		JwtDecoder jwtDecoder(LocalJwtIssuer localJwtIssuer) {
+			return localJwtIssuer.decoder();
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.inkcloud.review_service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.inkcloud.review_service.util.SqlStatementCounter;
+
+// 통합 테스트용 SQL 문장 수 고정 - MockMvc 요청처럼 같은 스레드에서 실행되는 작업을 감싸 측정한다
+// assertThatSql(() -> mockMvc.perform(get("/api/v1/reviews/products/1"))).hasStatements(1).hasNoRepeatedStatements();
+public final class SqlStatementAssertions {
+
+	private final SqlStatementCounter.Stats stats;
+
+	private SqlStatementAssertions(SqlStatementCounter.Stats stats) {
+		this.stats = stats;
+	}
+
+	@FunctionalInterface
+	public interface ThrowingRunnable {
+		void run() throws Exception;
+	}
+
+	public static SqlStatementAssertions assertThatSql(ThrowingRunnable action) throws Exception {
+		return new SqlStatementAssertions(capture(action));
+	}
+
+	public static SqlStatementCounter.Stats capture(ThrowingRunnable action) throws Exception {
+		SqlStatementCounter.begin();
+		SqlStatementCounter.Stats stats;
+		try {
+			action.run();
+		} finally {
+			stats = SqlStatementCounter.end();
+		}
+		return stats;
+	}
+
+	public SqlStatementAssertions hasStatements(int expected) {
+		assertThat(stats.statements()).as("SQL 문장 수").isEqualTo(expected);
+		return this;
+	}
+
+	public SqlStatementAssertions hasAtMostStatements(int max) {
+		assertThat(stats.statements()).as("SQL 문장 수").isLessThanOrEqualTo(max);
+		return this;
+	}
+
+	// 같은 SQL 이 두 번 이상 실행되지 않음 (N+1 없음)
+	public SqlStatementAssertions hasNoRepeatedStatements() {
+		assertThat(stats.maxRepeats()).as("가장 많이 반복된 SQL: %s", stats.mostRepeatedSql()).isLessThanOrEqualTo(1);
+		return this;
+	}
+}